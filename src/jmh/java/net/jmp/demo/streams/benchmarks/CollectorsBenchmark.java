@@ -0,0 +1,232 @@
+package net.jmp.demo.streams.benchmarks;
+
+/*
+ * (#)CollectorsBenchmark.java  0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static net.jmp.demo.streams.util.CollectorsFactory.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for the custom collectors in
+ * net.jmp.demo.streams.collectors. Each
+ * collector is paired with the stream
+ * operation or JDK collector that it
+ * replaces so that throughput and
+ * allocation can be compared directly.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class CollectorsBenchmark {
+    /** The number of elements in the stream. */
+    @Param({"1000", "1000000", "10000000"})
+    private int size;
+
+    /** True to run the pipelines in parallel. */
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    /** The ascending elements 0 .. size - 1. */
+    private List<Integer> elements;
+
+    /** Elements with roughly four copies of each value. */
+    private List<Integer> duplicates;
+
+    /** The limit, skip and predicate cut-off. */
+    private int half;
+
+    /**
+     * The default constructor.
+     */
+    public CollectorsBenchmark() {
+        super();
+    }
+
+    /**
+     * Build the input lists once per trial.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        final int distinct = Math.max(1, this.size / 4);
+
+        this.elements = IntStream.range(0, this.size)
+                .boxed()
+                .toList();
+        this.duplicates = IntStream.range(0, this.size)
+                .map(i -> i % distinct)
+                .boxed()
+                .toList();
+        this.half = this.size / 2;
+    }
+
+    /**
+     * The limiting collector.
+     *
+     * @return  java.util.List&lt;java.lang.Integer&gt;
+     */
+    @Benchmark
+    public List<Integer> limitingCollector() {
+        return this.stream(this.elements).collect(limiting(this.half));
+    }
+
+    /**
+     * Stream.limit().
+     *
+     * @return  java.util.List&lt;java.lang.Integer&gt;
+     */
+    @Benchmark
+    public List<Integer> streamLimit() {
+        return this.stream(this.elements).limit(this.half).toList();
+    }
+
+    /**
+     * The skipping collector.
+     *
+     * @return  java.util.List&lt;java.lang.Integer&gt;
+     */
+    @Benchmark
+    public List<Integer> skippingCollector() {
+        return this.stream(this.elements).collect(skipping(this.half));
+    }
+
+    /**
+     * Stream.skip().
+     *
+     * @return  java.util.List&lt;java.lang.Integer&gt;
+     */
+    @Benchmark
+    public List<Integer> streamSkip() {
+        return this.stream(this.elements).skip(this.half).toList();
+    }
+
+    /**
+     * The taking-while collector.
+     *
+     * @return  java.util.List&lt;java.lang.Integer&gt;
+     */
+    @Benchmark
+    public List<Integer> takingWhileCollector() {
+        return this.stream(this.elements).collect(takingWhile(i -> i < this.half));
+    }
+
+    /**
+     * Stream.takeWhile().
+     *
+     * @return  java.util.List&lt;java.lang.Integer&gt;
+     */
+    @Benchmark
+    public List<Integer> streamTakeWhile() {
+        return this.stream(this.elements).takeWhile(i -> i < this.half).toList();
+    }
+
+    /**
+     * The dropping-while collector.
+     *
+     * @return  java.util.List&lt;java.lang.Integer&gt;
+     */
+    @Benchmark
+    public List<Integer> droppingWhileCollector() {
+        return this.stream(this.elements).collect(droppingWhile(i -> i < this.half));
+    }
+
+    /**
+     * Stream.dropWhile().
+     *
+     * @return  java.util.List&lt;java.lang.Integer&gt;
+     */
+    @Benchmark
+    public List<Integer> streamDropWhile() {
+        return this.stream(this.elements).dropWhile(i -> i < this.half).toList();
+    }
+
+    /**
+     * The toDeque collector.
+     *
+     * @return  java.util.Deque&lt;java.lang.Integer&gt;
+     */
+    @Benchmark
+    public Deque<Integer> toDequeCollector() {
+        return this.stream(this.elements).collect(toDeque());
+    }
+
+    /**
+     * Collectors.toCollection(ArrayDeque::new).
+     *
+     * @return  java.util.Deque&lt;java.lang.Integer&gt;
+     */
+    @Benchmark
+    public Deque<Integer> collectorsToArrayDeque() {
+        return this.stream(this.elements).collect(Collectors.toCollection(ArrayDeque::new));
+    }
+
+    /**
+     * The distinctifying collector.
+     *
+     * @return  java.util.Set&lt;java.lang.Integer&gt;
+     */
+    @Benchmark
+    public Set<Integer> distinctifyingCollector() {
+        return this.stream(this.duplicates).collect(distinctifying());
+    }
+
+    /**
+     * Collectors.toSet().
+     *
+     * @return  java.util.Set&lt;java.lang.Integer&gt;
+     */
+    @Benchmark
+    public Set<Integer> collectorsToSet() {
+        return this.stream(this.duplicates).collect(Collectors.toSet());
+    }
+
+    /**
+     * Return a sequential or parallel
+     * stream over the list depending
+     * on the parallel parameter.
+     *
+     * @param   list    java.util.List&lt;java.lang.Integer&gt;
+     * @return          java.util.stream.Stream&lt;java.lang.Integer&gt;
+     */
+    private Stream<Integer> stream(final List<Integer> list) {
+        return this.parallel ? list.parallelStream() : list.stream();
+    }
+}
@@ -0,0 +1,548 @@
+package net.jmp.demo.streams.benchmarks;
+
+/*
+ * (#)GatherersBenchmark.java   0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.reflect.Method;
+
+import java.math.BigDecimal;
+
+import java.util.*;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import java.util.stream.*;
+
+import net.jmp.demo.streams.demos.GatherersDemo;
+
+import net.jmp.demo.streams.records.Money;
+
+import static net.jmp.demo.streams.util.GatherersFactory.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks for the custom gatherers in
+ * net.jmp.demo.streams.gatherers and for the
+ * inline gatherers built by GatherersDemo.
+ * Each gatherer is paired with the closest
+ * built-in gatherer, collector or stream
+ * operation. The inline gatherers are private
+ * to the demo and are obtained reflectively,
+ * the same way the unit tests reach them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@State(Scope.Benchmark)
+public class GatherersBenchmark {
+    /** The currencies that make up most of the money. */
+    private static final Currency[] CURRENCIES = {
+            Currency.getInstance("EUR"),
+            Currency.getInstance("GBP"),
+            Currency.getInstance("JPY"),
+            Currency.getInstance("PLN"),
+            Currency.getInstance("USD")
+    };
+
+    /** The currency only found at the find-first and find-last positions. */
+    private static final Currency TARGET = Currency.getInstance("CHF");
+
+    /** The number of distinct amounts. */
+    private static final int AMOUNTS = 1_000;
+
+    /**
+     * The initial capacity of each accumulating list. The demo sizes the
+     * list with the number of items, but a parallel stream creates one list
+     * per split, so sizing each one with the full stream size would exhaust
+     * the heap long before the benchmark runs.
+     */
+    private static final int ACCUMULATE_CAPACITY = 16;
+
+    /** The number of elements in the stream. */
+    @Param({"10000", "1000000", "10000000", "50000000"})
+    private int size;
+
+    /** True to run the pipelines in parallel. */
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    /** The money. */
+    private List<Money> money;
+
+    /** The money with every tenth element null. */
+    private List<Money> moneyWithNulls;
+
+    /** The integers 1 .. size. */
+    private List<Integer> integers;
+
+    /** The limit and range start. */
+    private int half;
+
+    /** The predicate used by the find benchmarks. */
+    private final Predicate<Money> isTarget = m -> m.currency().equals(TARGET);
+
+    /** The identity for the scan benchmarks. */
+    private final Supplier<Money> zero = () -> new Money(BigDecimal.ZERO, CURRENCIES[0]);
+
+    /** The demo's inline scan gatherer. */
+    private Gatherer<Money, ?, Money> scan;
+
+    /** The demo's inline reverse scan gatherer. */
+    private Gatherer<Money, ?, Money> reverseScan;
+
+    /** The demo's inline limiting gatherer. */
+    private Gatherer<Money, ?, Money> limiting;
+
+    /** The demo's inline range gatherer. */
+    private Gatherer<Money, ?, Money> range;
+
+    /** The demo's inline accumulating gatherer. */
+    private Gatherer<Integer, ?, Integer> accumulate;
+
+    /**
+     * The default constructor.
+     */
+    public GatherersBenchmark() {
+        super();
+    }
+
+    /**
+     * Build the inputs and obtain the
+     * demo's inline gatherers once per
+     * trial.
+     *
+     * @throws  java.lang.ReflectiveOperationException When an inline gatherer cannot be obtained
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws ReflectiveOperationException {
+        final BigDecimal[] amounts = IntStream.range(0, AMOUNTS)
+                .mapToObj(BigDecimal::valueOf)
+                .toArray(BigDecimal[]::new);
+        final Money[] array = IntStream.range(0, this.size)
+                .parallel()
+                .mapToObj(i -> new Money(amounts[i % AMOUNTS], CURRENCIES[i % CURRENCIES.length]))
+                .toArray(Money[]::new);
+
+        this.half = this.size / 2;
+
+        array[this.half] = new Money(amounts[1], TARGET);
+        array[this.half + this.size / 4] = new Money(amounts[2], TARGET);
+
+        this.money = Arrays.asList(array);
+        this.moneyWithNulls = IntStream.range(0, this.size)
+                .mapToObj(i -> i % 10 == 0 ? null : array[i])
+                .collect(Collectors.toList());
+        this.integers = IntStream.rangeClosed(1, this.size)
+                .boxed()
+                .toList();
+
+        final GatherersDemo demo = new GatherersDemo();
+        final BiFunction<Money, Money, Money> adder = Money::add;
+
+        this.scan = this.inlineGatherer(demo, "scan", new Class<?>[] {Supplier.class, BiFunction.class}, this.zero, adder);
+        this.reverseScan = this.inlineGatherer(demo, "reverseScan", new Class<?>[] {Supplier.class, BiFunction.class}, this.zero, adder);
+        this.limiting = this.inlineGatherer(demo, "limiting", new Class<?>[] {int.class}, this.half);
+        this.range = this.inlineGatherer(demo, "range", new Class<?>[] {int.class}, this.half);
+        this.accumulate = this.inlineGatherer(demo, "accumulate", new Class<?>[] {int.class}, ACCUMULATE_CAPACITY);
+    }
+
+    /**
+     * The distinct-by gatherer.
+     *
+     * @return  java.util.List&lt;java.util.Currency&gt;
+     */
+    @Benchmark
+    public List<Currency> distinctByGatherer() {
+        return this.stream(this.money)
+                .gather(distinctBy(Money::currency))
+                .map(Money::currency)
+                .toList();
+    }
+
+    /**
+     * Stream.distinct() on the mapped key.
+     *
+     * @return  java.util.List&lt;java.util.Currency&gt;
+     */
+    @Benchmark
+    public List<Currency> streamDistinctOnKey() {
+        return this.stream(this.money)
+                .map(Money::currency)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * The reduce-by gatherer.
+     *
+     * @return  java.util.List&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    @Benchmark
+    public List<Money> reduceByGatherer() {
+        return this.stream(this.money)
+                .gather(reduceBy(Money::currency, Money::add))
+                .toList();
+    }
+
+    /**
+     * Collectors.toMap() with a merge function.
+     *
+     * @return  java.util.Collection&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    @Benchmark
+    public Collection<Money> collectorsToMapWithMerge() {
+        return this.stream(this.money)
+                .collect(Collectors.toMap(Money::currency, Function.identity(), Money::add))
+                .values();
+    }
+
+    /**
+     * The max-by gatherer.
+     *
+     * @return  java.util.List&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    @Benchmark
+    public List<Money> maxByGatherer() {
+        return this.stream(this.money)
+                .gather(maxBy(Money::amount))
+                .toList();
+    }
+
+    /**
+     * Stream.max() with a comparator.
+     *
+     * @return  java.util.Optional&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    @Benchmark
+    public Optional<Money> streamMax() {
+        return this.stream(this.money).max(Comparator.comparing(Money::amount));
+    }
+
+    /**
+     * The min-by gatherer.
+     *
+     * @return  java.util.List&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    @Benchmark
+    public List<Money> minByGatherer() {
+        return this.stream(this.money)
+                .gather(minBy(Money::amount))
+                .toList();
+    }
+
+    /**
+     * Stream.min() with a comparator.
+     *
+     * @return  java.util.Optional&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    @Benchmark
+    public Optional<Money> streamMin() {
+        return this.stream(this.money).min(Comparator.comparing(Money::amount));
+    }
+
+    /**
+     * The map not-null gatherer.
+     *
+     * @return  java.util.List&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    @Benchmark
+    public List<Money> mapNotNullGatherer() {
+        return this.stream(this.moneyWithNulls)
+                .gather(mapNotNull(m -> m.multiply(BigDecimal.TWO)))
+                .toList();
+    }
+
+    /**
+     * Stream.filter() then Stream.map().
+     *
+     * @return  java.util.List&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    @Benchmark
+    public List<Money> streamFilterMap() {
+        return this.stream(this.moneyWithNulls)
+                .filter(Objects::nonNull)
+                .map(m -> m.multiply(BigDecimal.TWO))
+                .toList();
+    }
+
+    /**
+     * The find-first gatherer.
+     *
+     * @return  java.util.List&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    @Benchmark
+    public List<Money> findFirstGatherer() {
+        return this.stream(this.money)
+                .gather(findFirst(this.isTarget))
+                .toList();
+    }
+
+    /**
+     * Stream.filter() then Stream.findFirst().
+     *
+     * @return  java.util.Optional&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    @Benchmark
+    public Optional<Money> streamFindFirst() {
+        return this.stream(this.money)
+                .filter(this.isTarget)
+                .findFirst();
+    }
+
+    /**
+     * The find-last gatherer.
+     *
+     * @return  java.util.List&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    @Benchmark
+    public List<Money> findLastGatherer() {
+        return this.stream(this.money)
+                .gather(findLast(this.isTarget))
+                .toList();
+    }
+
+    /**
+     * Stream.filter() then a reduction to the last element.
+     *
+     * @return  java.util.Optional&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    @Benchmark
+    public Optional<Money> streamFindLast() {
+        return this.stream(this.money)
+                .filter(this.isTarget)
+                .reduce((first, second) -> second);
+    }
+
+    /**
+     * The demo's inline scan gatherer.
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long inlineScan() {
+        return this.stream(this.money)
+                .gather(this.scan)
+                .count();
+    }
+
+    /**
+     * Gatherers.scan().
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long gatherersScan() {
+        return this.stream(this.money)
+                .gather(Gatherers.scan(this.zero, Money::add))
+                .count();
+    }
+
+    /**
+     * The demo's inline reverse scan gatherer.
+     *
+     * @return  java.util.List&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    @Benchmark
+    public List<Money> inlineReverseScan() {
+        return this.stream(this.money)
+                .gather(this.reverseScan)
+                .toList();
+    }
+
+    /**
+     * Gatherers.scan() then reversing the results.
+     *
+     * @return  java.util.List&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    @Benchmark
+    public List<Money> gatherersScanReversed() {
+        final List<Money> results = this.stream(this.money)
+                .gather(Gatherers.scan(this.zero, Money::add))
+                .collect(Collectors.toList());
+
+        Collections.reverse(results);
+
+        return results;
+    }
+
+    /**
+     * The demo's inline limiting gatherer.
+     *
+     * @return  java.util.List&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    @Benchmark
+    public List<Money> inlineLimiting() {
+        return this.stream(this.money)
+                .gather(this.limiting)
+                .toList();
+    }
+
+    /**
+     * Stream.limit().
+     *
+     * @return  java.util.List&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    @Benchmark
+    public List<Money> streamLimit() {
+        return this.stream(this.money)
+                .limit(this.half)
+                .toList();
+    }
+
+    /**
+     * The demo's inline range gatherer.
+     *
+     * @return  java.util.List&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    @Benchmark
+    public List<Money> inlineRange() {
+        return this.stream(this.money)
+                .gather(this.range)
+                .toList();
+    }
+
+    /**
+     * Stream.skip().
+     *
+     * @return  java.util.List&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    @Benchmark
+    public List<Money> streamSkip() {
+        return this.stream(this.money)
+                .skip(this.half)
+                .toList();
+    }
+
+    /**
+     * The demo's inline accumulating gatherer. Only the
+     * combiner sums, so a sequential run returns the first
+     * element rather than the sum; compare it with
+     * streamCollectAccumulate, which has the same semantics,
+     * rather than with streamReduce.
+     *
+     * @return  int
+     */
+    @Benchmark
+    public int inlineAccumulate() {
+        return this.stream(this.integers)
+                .gather(this.accumulate)
+                .findFirst()
+                .orElse(0);
+    }
+
+    /**
+     * Stream.reduce() with an identity.
+     *
+     * @return  int
+     */
+    @Benchmark
+    public int streamReduce() {
+        return this.stream(this.integers).reduce(0, Integer::sum);
+    }
+
+    /**
+     * Stream.collect() with a collector that mirrors the
+     * demo's accumulating gatherer: it adds each element to
+     * a list, sums the lists when combining and returns the
+     * first element of the result.
+     *
+     * @return  int
+     */
+    @Benchmark
+    public int streamCollectAccumulate() {
+        return this.stream(this.integers).collect(Collector.of(
+                () -> new ArrayList<Integer>(ACCUMULATE_CAPACITY),
+                List::add,
+                (left, right) -> {
+                    int accumulator = 0;
+
+                    for (final var element : left) {
+                        accumulator += element;
+                    }
+
+                    for (final var element : right) {
+                        accumulator += element;
+                    }
+
+                    final var result = new ArrayList<Integer>(1);
+
+                    result.add(accumulator);
+
+                    return result;
+                },
+                list -> list.isEmpty() ? 0 : list.getFirst()
+        ));
+    }
+
+    /**
+     * Return a sequential or parallel
+     * stream over the list depending
+     * on the parallel parameter.
+     *
+     * @param   <T>     The type of element
+     * @param   list    java.util.List&lt;T&gt;
+     * @return          java.util.stream.Stream&lt;T&gt;
+     */
+    private <T> Stream<T> stream(final List<T> list) {
+        return this.parallel ? list.parallelStream() : list.stream();
+    }
+
+    /**
+     * Invoke one of the demo's private
+     * gatherer-building methods.
+     *
+     * @param   <T>             The type of input element
+     * @param   demo            net.jmp.demo.streams.demos.GatherersDemo
+     * @param   name            java.lang.String
+     * @param   parameterTypes  java.lang.Class&lt;?&gt;[]
+     * @param   arguments       java.lang.Object[]
+     * @return                  java.util.stream.Gatherer&lt;T, ?, T&gt;
+     * @throws                  java.lang.ReflectiveOperationException When the method cannot be invoked
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Gatherer<T, ?, T> inlineGatherer(final GatherersDemo demo,
+                                                 final String name,
+                                                 final Class<?>[] parameterTypes,
+                                                 final Object... arguments) throws ReflectiveOperationException {
+        final Method method = GatherersDemo.class.getDeclaredMethod(name, parameterTypes);
+
+        method.setAccessible(true);
+
+        return (Gatherer<T, ?, T>) method.invoke(demo, arguments);
+    }
+}
@@ -0,0 +1,190 @@
+package net.jmp.demo.streams.benchmarks;
+
+/*
+ * (#)LinesBenchmark.java   0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import net.jmp.demo.streams.spliterators.MappedLineSpliterator;
+
+import static net.jmp.demo.streams.util.SpliteratorUtils.*;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks that count the error lines of a log file
+ * with Files.lines() against the memory-mapped line
+ * spliterator, both in a parallel stream and split
+ * evenly with SpliteratorUtils. The file is written
+ * and mapped once per trial, so the page cache is warm.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class LinesBenchmark {
+    /** The prefix of an error line. */
+    private static final MemorySegment ERROR = MemorySegment.ofArray("ERROR".getBytes(StandardCharsets.US_ASCII));
+
+    /** The number of lines in the file, named size like the other benchmarks' inputs so the regression gate's fast subset overrides it. */
+    @Param({"10000", "1000000", "10000000"})
+    private int size;
+
+    /** The log file. */
+    private Path file;
+
+    /** The arena that the file is mapped in. */
+    private Arena arena;
+
+    /** The mapped file. */
+    private MemorySegment segment;
+
+    /**
+     * The default constructor.
+     */
+    public LinesBenchmark() {
+        super();
+    }
+
+    /**
+     * Write and map the file once per trial.
+     *
+     * @throws  java.io.IOException When the file cannot be written or mapped
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.file = Files.createTempFile("lines", ".log");
+
+        try (final BufferedWriter writer = Files.newBufferedWriter(this.file)) {
+            for (int i = 1; i <= this.size; i++) {
+                writer.write(i % 10 == 0 ? "ERROR " : "INFO ");
+                writer.write("Request ");
+                writer.write(Integer.toString(i));
+                writer.write(" completed\n");
+            }
+        }
+
+        this.arena = Arena.ofShared();
+
+        try (final FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+            this.segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), this.arena);
+        }
+    }
+
+    /**
+     * Unmap and delete the file.
+     *
+     * @throws  java.io.IOException When the file cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.arena.close();
+
+        Files.delete(this.file);
+    }
+
+    /**
+     * Count the error lines with a parallel Files.lines() stream.
+     *
+     * @return                      long
+     * @throws  java.io.IOException When the file cannot be read
+     */
+    @Benchmark
+    public long filesLinesParallelStream() throws IOException {
+        try (final Stream<String> stream = Files.lines(this.file)) {
+            return stream.parallel()
+                    .filter(line -> line.startsWith("ERROR"))
+                    .count();
+        }
+    }
+
+    /**
+     * Count the error lines with a parallel
+     * stream over the mapped line spliterator.
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long mappedLinesParallelStream() {
+        return StreamSupport.stream(new MappedLineSpliterator(this.segment), true)
+                .filter(LinesBenchmark::isError)
+                .count();
+    }
+
+    /**
+     * Count the error lines by splitting the mapped
+     * line spliterator evenly across the common pool.
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long mappedLinesSplitAndConsumeEvenly() {
+        final LongAdder errors = new LongAdder();
+
+        return splitAndConsumeEvenly(new MappedLineSpliterator(this.segment),
+                line -> {
+                    if (isError(line)) {
+                        errors.increment();
+                    }
+                },
+                errors::sum);
+    }
+
+    /**
+     * Return true if the line begins with ERROR.
+     *
+     * @param   line    java.lang.foreign.MemorySegment
+     * @return          boolean
+     */
+    private static boolean isError(final MemorySegment line) {
+        return line.byteSize() >= ERROR.byteSize() && line.asSlice(0, ERROR.byteSize()).mismatch(ERROR) == -1;
+    }
+}
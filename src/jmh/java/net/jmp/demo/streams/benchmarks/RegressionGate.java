@@ -0,0 +1,569 @@
+package net.jmp.demo.streams.benchmarks;
+
+/*
+ * (#)RegressionGate.java   0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.profile.GCProfiler;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * A benchmark regression gate. It runs a fast subset
+ * of the benchmarks (small inputs, short iterations)
+ * and either records the results as the baseline or
+ * compares them with the stored baseline. The check
+ * fails when throughput drops, or allocation per
+ * operation rises, beyond the tolerance configured
+ * for the benchmark and beyond the combined 99.9%
+ * score errors of the baseline and the current run,
+ * so that a noisy run whose confidence interval still
+ * overlaps the baseline's is not reported.
+ *
+ * <p>Both the baseline and the results are plain JMH
+ * CSV result files. Recording also writes the Java
+ * version, architecture and processor count of the
+ * machine beside the baseline. The check refuses to
+ * compare with a baseline that is missing or that was
+ * recorded in a different environment and skips the
+ * run instead, unless the jmh.requireBaseline system
+ * property is true, in which case it fails. Once a
+ * baseline is in use, every benchmark that was run
+ * must be covered by it.
+ */
+public final class RegressionGate {
+    /** The record mode. */
+    private static final String RECORD = "record";
+
+    /** The check mode. */
+    private static final String CHECK = "check";
+
+    /** The suffix of the allocation per operation secondary metric. */
+    private static final String ALLOCATION_METRIC = ":gc.alloc.rate.norm";
+
+    /** The environment properties that must match between the baseline and the check. */
+    private static final List<String> ENVIRONMENT_KEYS = List.of("java.specification.version", "os.arch", "processors");
+
+    /** The input size used by the fast subset. */
+    private static final String FAST_SIZE = "10000";
+
+    /** The measurement iterations of the fast subset; fewer samples widen the score error. */
+    private static final int FAST_ITERATIONS = 5;
+
+    /** True if the check must fail rather than skip when there is no usable baseline. */
+    private static final boolean REQUIRE_BASELINE = Boolean.getBoolean("jmh.requireBaseline");
+
+    /** The mode, record or check. */
+    private final String mode;
+
+    /** The benchmark include pattern. */
+    private final String includes;
+
+    /** The baseline CSV file. */
+    private final Path baselineFile;
+
+    /** The results CSV file. */
+    private final Path resultsFile;
+
+    /** The tolerances. */
+    private final Properties tolerances;
+
+    /**
+     * The constructor.
+     *
+     * @param   mode            java.lang.String
+     * @param   includes        java.lang.String
+     * @param   baselineFile    java.nio.file.Path
+     * @param   resultsFile     java.nio.file.Path
+     * @param   tolerances      java.util.Properties
+     */
+    private RegressionGate(final String mode,
+                           final String includes,
+                           final Path baselineFile,
+                           final Path resultsFile,
+                           final Properties tolerances) {
+        super();
+
+        this.mode = Objects.requireNonNull(mode);
+        this.includes = Objects.requireNonNull(includes);
+        this.baselineFile = Objects.requireNonNull(baselineFile);
+        this.resultsFile = Objects.requireNonNull(resultsFile);
+        this.tolerances = Objects.requireNonNull(tolerances);
+    }
+
+    /**
+     * The main method. The arguments are the mode
+     * (record or check), the benchmark include pattern,
+     * the baseline file, the tolerances file and the
+     * results file. The process exits with status 1
+     * when the check finds a regression, or when it
+     * has no usable baseline and one is required.
+     *
+     * @param   args                                        java.lang.String[]
+     * @throws  java.io.IOException                         When a file cannot be read or written
+     * @throws  org.openjdk.jmh.runner.RunnerException      When a benchmark run fails
+     */
+    public static void main(final String[] args) throws IOException, RunnerException {
+        if (args.length != 5 || !(RECORD.equals(args[0]) || CHECK.equals(args[0]))) {
+            throw new IllegalArgumentException("Usage: RegressionGate record|check includes baseline.csv tolerances.properties results.csv");
+        }
+
+        final Properties tolerances = new Properties();
+
+        try (final Reader reader = new FileReader(args[3])) {
+            tolerances.load(reader);
+        }
+
+        final RegressionGate gate = new RegressionGate(args[0], args[1], Path.of(args[2]), Path.of(args[4]), tolerances);
+
+        if (!gate.run()) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Run the fast subset and then either
+     * record or check the results.
+     *
+     * @return                                          boolean True unless a regression was found or a required baseline is unusable
+     * @throws  java.io.IOException                     When a file cannot be read or written
+     * @throws  org.openjdk.jmh.runner.RunnerException  When a benchmark run fails
+     */
+    private boolean run() throws IOException, RunnerException {
+        if (CHECK.equals(this.mode) && !this.isBaselineUsable()) {
+            if (REQUIRE_BASELINE) {
+                return false;
+            }
+
+            System.out.format("Regression check SKIPPED; pass -PjmhRequireBaseline=true to fail instead%n");
+
+            return true;
+        }
+
+        final Path output = RECORD.equals(this.mode) ? this.baselineFile : this.resultsFile;
+
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+
+        final Options options = new OptionsBuilder()
+                .include(this.includes)
+                .param("size", FAST_SIZE)
+                .forks(1)
+                .warmupIterations(2)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(FAST_ITERATIONS)
+                .measurementTime(TimeValue.seconds(1))
+                .timeUnit(TimeUnit.SECONDS)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.CSV)
+                .result(output.toString())
+                .build();
+
+        new Runner(options).run();
+
+        if (RECORD.equals(this.mode)) {
+            try (final Writer writer = Files.newBufferedWriter(this.environmentFile())) {
+                environment().store(writer, "The environment the benchmark baseline was recorded in");
+            }
+
+            System.out.format("Baseline recorded in %s%n", this.baselineFile);
+
+            return true;
+        }
+
+        return this.compare(read(this.baselineFile), read(this.resultsFile));
+    }
+
+    /**
+     * Return true if the baseline exists and was
+     * recorded in this environment. Otherwise print
+     * why it cannot be used and return false, since
+     * numbers from another JDK or machine would make
+     * the comparison meaningless.
+     *
+     * @return                          boolean
+     * @throws  java.io.IOException     When the environment file cannot be read
+     */
+    private boolean isBaselineUsable() throws IOException {
+        final Path environmentFile = this.environmentFile();
+
+        if (!Files.exists(this.baselineFile) || !Files.exists(environmentFile)) {
+            System.out.format("No baseline in %s; record one with 'gradle jmhBaseline' on the reference machine%n", this.baselineFile);
+
+            return false;
+        }
+
+        final Properties recorded = new Properties();
+
+        try (final Reader reader = Files.newBufferedReader(environmentFile)) {
+            recorded.load(reader);
+        }
+
+        final Properties current = environment();
+
+        boolean usable = true;
+
+        for (final String key : ENVIRONMENT_KEYS) {
+            if (!Objects.equals(recorded.getProperty(key), current.getProperty(key))) {
+                System.out.format("The baseline was recorded with %s=%s but this run has %s=%s%n",
+                        key,
+                        recorded.getProperty(key),
+                        key,
+                        current.getProperty(key));
+
+                usable = false;
+            }
+        }
+
+        if (!usable) {
+            System.out.format("Re-record the baseline with 'gradle jmhBaseline' in this environment%n");
+        }
+
+        return usable;
+    }
+
+    /**
+     * Return the file beside the baseline that
+     * holds the environment it was recorded in.
+     *
+     * @return  java.nio.file.Path
+     */
+    private Path environmentFile() {
+        final String name = this.baselineFile.getFileName().toString();
+        final int dot = name.lastIndexOf('.');
+
+        return this.baselineFile.resolveSibling((dot < 0 ? name : name.substring(0, dot)) + ".properties");
+    }
+
+    /**
+     * Return the properties of the current
+     * environment that affect the scores.
+     *
+     * @return  java.util.Properties
+     */
+    private static Properties environment() {
+        final Properties environment = new Properties();
+
+        environment.setProperty("java.specification.version", System.getProperty("java.specification.version"));
+        environment.setProperty("java.vm.version", System.getProperty("java.vm.version"));
+        environment.setProperty("os.arch", System.getProperty("os.arch"));
+        environment.setProperty("processors", String.valueOf(Runtime.getRuntime().availableProcessors()));
+
+        return environment;
+    }
+
+    /**
+     * Compare the results with the baseline, print
+     * the per-benchmark differences and return false
+     * if any benchmark regressed or has no baseline.
+     *
+     * @param   baseline    java.util.Map&lt;java.lang.String, net.jmp.demo.streams.benchmarks.RegressionGate.Measurement&gt;
+     * @param   results     java.util.Map&lt;java.lang.String, net.jmp.demo.streams.benchmarks.RegressionGate.Measurement&gt;
+     * @return              boolean
+     */
+    private boolean compare(final Map<String, Measurement> baseline, final Map<String, Measurement> results) {
+        final String format = "%-75s %-10s %14s %14s %9s  %s%n";
+
+        int regressions = 0;
+        int missing = 0;
+
+        System.out.format("%n" + format, "Benchmark", "Metric", "Baseline", "Current", "Change", "Status");
+
+        for (final Measurement current : results.values()) {
+            final Measurement previous = baseline.get(current.key());
+
+            if (previous == null) {
+                System.out.format(format, current.key(), current.unit(), "-", String.format("%.3f", current.score()), "-", "NO BASELINE");
+
+                missing++;
+
+                continue;
+            }
+
+            final double throughputTolerance = this.tolerance(current.benchmark(), "throughput");
+            final double throughputChange = change(previous.score(), current.score());
+            final double throughputError = previous.scoreError() + current.scoreError();
+            final boolean throughputExceeded = throughputChange < -throughputTolerance;
+            final boolean throughputRegressed = throughputExceeded && previous.score() - current.score() > throughputError;
+
+            System.out.format(format,
+                    current.key(),
+                    current.unit(),
+                    String.format("%.3f", previous.score()),
+                    String.format("%.3f", current.score()),
+                    String.format("%+.1f%%", 100.0 * throughputChange),
+                    status(throughputExceeded, throughputRegressed, throughputTolerance, throughputError));
+
+            if (throughputRegressed) {
+                regressions++;
+            }
+
+            if (!Double.isNaN(previous.allocation()) && !Double.isNaN(current.allocation())) {
+                final double allocationTolerance = this.tolerance(current.benchmark(), "allocation");
+                final double allocationFloor = this.tolerance(current.benchmark(), "allocation.floor");
+                final double allocationChange = change(previous.allocation(), current.allocation());
+                final double allocationIncrease = current.allocation() - previous.allocation();
+                final double allocationError = previous.allocationError() + current.allocationError();
+                final boolean allocationExceeded = allocationChange > allocationTolerance && allocationIncrease > allocationFloor;
+                final boolean allocationRegressed = allocationExceeded && allocationIncrease > allocationError;
+
+                System.out.format(format,
+                        "",
+                        "B/op",
+                        String.format("%.1f", previous.allocation()),
+                        String.format("%.1f", current.allocation()),
+                        String.format("%+.1f%%", 100.0 * allocationChange),
+                        status(allocationExceeded, allocationRegressed, allocationTolerance, allocationError));
+
+                if (allocationRegressed) {
+                    regressions++;
+                }
+            }
+        }
+
+        System.out.format("%n%d regression(s) and %d benchmark(s) without a baseline against %s%n",
+                regressions,
+                missing,
+                this.baselineFile);
+
+        return regressions == 0 && missing == 0;
+    }
+
+    /**
+     * Return the status column of a comparison. A change
+     * beyond the tolerance that is still within the
+     * combined score error is reported but not failed.
+     *
+     * @param   exceeded    boolean True when the change is beyond the tolerance
+     * @param   regressed   boolean True when the change is also beyond the error
+     * @param   tolerance   double
+     * @param   error       double
+     * @return              java.lang.String
+     */
+    private static String status(final boolean exceeded,
+                                 final boolean regressed,
+                                 final double tolerance,
+                                 final double error) {
+        if (regressed) {
+            return String.format("REGRESSION (tolerance %.0f%%, error %.3f)", 100.0 * tolerance, error);
+        }
+
+        return exceeded ? String.format("ok (within error %.3f)", error) : "ok";
+    }
+
+    /**
+     * Return the tolerance for the benchmark and
+     * metric. A benchmark-specific property such as
+     * CollectorsBenchmark.streamLimit.throughput wins
+     * over a class-wide CollectorsBenchmark.throughput,
+     * which wins over default.throughput.
+     *
+     * @param   benchmark   java.lang.String
+     * @param   metric      java.lang.String
+     * @return              double
+     */
+    private double tolerance(final String benchmark, final String metric) {
+        final String className = benchmark.substring(0, benchmark.indexOf('.'));
+
+        String value = this.tolerances.getProperty(benchmark + "." + metric);
+
+        if (value == null) {
+            value = this.tolerances.getProperty(className + "." + metric);
+        }
+
+        if (value == null) {
+            value = this.tolerances.getProperty("default." + metric, "0");
+        }
+
+        return Double.parseDouble(value.trim());
+    }
+
+    /**
+     * Return the relative change from the
+     * previous value to the current value.
+     *
+     * @param   previous    double
+     * @param   current     double
+     * @return              double
+     */
+    private static double change(final double previous, final double current) {
+        if (previous == 0.0) {
+            return current == 0.0 ? 0.0 : Double.POSITIVE_INFINITY;
+        }
+
+        return (current - previous) / previous;
+    }
+
+    /**
+     * Read a JMH CSV result file into measurements
+     * keyed by benchmark and parameters. Only the
+     * primary score and the allocation per operation
+     * are kept, each with its score error.
+     *
+     * @param   file                    java.nio.file.Path
+     * @return                          java.util.Map&lt;java.lang.String, net.jmp.demo.streams.benchmarks.RegressionGate.Measurement&gt;
+     * @throws  java.io.IOException     When the file cannot be read
+     */
+    private static Map<String, Measurement> read(final Path file) throws IOException {
+        final List<String> lines = Files.readAllLines(file);
+        final Map<String, Measurement> measurements = new LinkedHashMap<>();
+
+        if (lines.isEmpty()) {
+            return measurements;
+        }
+
+        final String[] header = split(lines.getFirst());
+        final Map<String, double[]> allocations = new HashMap<>();
+
+        for (final String line : lines.subList(1, lines.size())) {
+            final String[] columns = split(line);
+            final String name = columns[0];
+            final int colon = name.indexOf(':');
+            final String benchmark = simpleName(colon < 0 ? name : name.substring(0, colon));
+            final StringBuilder params = new StringBuilder();
+
+            for (int i = 7; i < columns.length; i++) {
+                if (!columns[i].isEmpty()) {
+                    params.append(' ')
+                            .append(header[i].replace("Param: ", ""))
+                            .append('=')
+                            .append(columns[i]);
+                }
+            }
+
+            final String key = benchmark + params;
+
+            if (colon < 0) {
+                measurements.put(key, new Measurement(key,
+                        benchmark,
+                        Double.parseDouble(columns[4]),
+                        error(columns[5]),
+                        columns[6],
+                        Double.NaN,
+                        0.0));
+            } else if (name.endsWith(ALLOCATION_METRIC)) {
+                allocations.put(key, new double[] {Double.parseDouble(columns[4]), error(columns[5])});
+            }
+        }
+
+        allocations.forEach((key, allocation) -> measurements.computeIfPresent(key, (_, measurement) ->
+                new Measurement(key,
+                        measurement.benchmark(),
+                        measurement.score(),
+                        measurement.scoreError(),
+                        measurement.unit(),
+                        allocation[0],
+                        allocation[1])));
+
+        return measurements;
+    }
+
+    /**
+     * Parse a score error column. JMH writes NaN
+     * when there are too few samples to compute
+     * the error, which is treated as no error.
+     *
+     * @param   column  java.lang.String
+     * @return          double
+     */
+    private static double error(final String column) {
+        final double error = column.isEmpty() ? Double.NaN : Double.parseDouble(column);
+
+        return Double.isNaN(error) ? 0.0 : error;
+    }
+
+    /**
+     * Split a JMH CSV line and remove the quotes.
+     *
+     * @param   line    java.lang.String
+     * @return          java.lang.String[]
+     */
+    private static String[] split(final String line) {
+        final String[] columns = line.split(",", -1);
+
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = columns[i].replace("\"", "").trim();
+        }
+
+        return columns;
+    }
+
+    /**
+     * Return the class and method name
+     * of a fully qualified benchmark.
+     *
+     * @param   benchmark   java.lang.String
+     * @return              java.lang.String
+     */
+    private static String simpleName(final String benchmark) {
+        final int method = benchmark.lastIndexOf('.');
+
+        return benchmark.substring(benchmark.lastIndexOf('.', method - 1) + 1);
+    }
+
+    /**
+     * A benchmark measurement.
+     *
+     * @param   key             java.lang.String
+     * @param   benchmark       java.lang.String
+     * @param   score           double
+     * @param   scoreError      double
+     * @param   unit            java.lang.String
+     * @param   allocation      double
+     * @param   allocationError double
+     */
+    private record Measurement(String key,
+                               String benchmark,
+                               double score,
+                               double scoreError,
+                               String unit,
+                               double allocation,
+                               double allocationError) {
+    }
+}
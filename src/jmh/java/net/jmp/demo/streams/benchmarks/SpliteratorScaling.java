@@ -0,0 +1,187 @@
+package net.jmp.demo.streams.benchmarks;
+
+/*
+ * (#)SpliteratorScaling.java   0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.File;
+
+import java.util.*;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the spliterator benchmarks once for each
+ * common pool parallelism level from one thread
+ * up to all cores and reports the speedup and
+ * per-core efficiency of every benchmark relative
+ * to its single-thread score, plus the lowest
+ * parallelism at which it beats the sequential
+ * loop (the crossover point).
+ */
+public final class SpliteratorScaling {
+    /** The sequential baseline benchmark. */
+    private static final String BASELINE = "sequentialLoop";
+
+    /** The system property that sizes the common pool. */
+    private static final String PARALLELISM_PROPERTY = "-Djava.util.concurrent.ForkJoinPool.common.parallelism=";
+
+    /** The directory that the per-parallelism JSON reports are written to. */
+    private final File resultsDirectory;
+
+    /** The parallelism levels to run. */
+    private final List<Integer> levels;
+
+    /** Scores keyed by benchmark/size and then by parallelism. */
+    private final Map<String, SortedMap<Integer, Double>> scores = new TreeMap<>();
+
+    /**
+     * The constructor.
+     *
+     * @param   resultsDirectory    java.io.File
+     * @param   levels              java.util.List&lt;java.lang.Integer&gt;
+     */
+    private SpliteratorScaling(final File resultsDirectory, final List<Integer> levels) {
+        super();
+
+        this.resultsDirectory = Objects.requireNonNull(resultsDirectory);
+        this.levels = Objects.requireNonNull(levels);
+    }
+
+    /**
+     * The main method. The optional argument is the
+     * directory for the JSON reports; it defaults to
+     * build/reports/jmh.
+     *
+     * @param   args                                        java.lang.String[]
+     * @throws  org.openjdk.jmh.runner.RunnerException      When a benchmark run fails
+     */
+    public static void main(final String[] args) throws RunnerException {
+        final File directory = new File(args.length > 0 ? args[0] : "build/reports/jmh");
+
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IllegalStateException("Unable to create " + directory);
+        }
+
+        final SpliteratorScaling scaling = new SpliteratorScaling(directory, parallelismLevels());
+
+        scaling.run();
+        scaling.report();
+    }
+
+    /**
+     * Return the parallelism levels: the powers
+     * of two below the number of cores and the
+     * number of cores itself.
+     *
+     * @return  java.util.List&lt;java.lang.Integer&gt;
+     */
+    private static List<Integer> parallelismLevels() {
+        final int cores = Runtime.getRuntime().availableProcessors();
+        final List<Integer> levels = new ArrayList<>();
+
+        for (int level = 1; level < cores; level *= 2) {
+            levels.add(level);
+        }
+
+        levels.add(cores);
+
+        return levels;
+    }
+
+    /**
+     * Run the benchmarks at each parallelism level.
+     *
+     * @throws  org.openjdk.jmh.runner.RunnerException  When a benchmark run fails
+     */
+    private void run() throws RunnerException {
+        for (final int level : this.levels) {
+            final Options options = new OptionsBuilder()
+                    .include(SpliteratorsBenchmark.class.getName())
+                    .jvmArgsPrepend(PARALLELISM_PROPERTY + level)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result(new File(this.resultsDirectory, "scaling-" + level + ".json").getPath())
+                    .build();
+
+            for (final RunResult result : new Runner(options).run()) {
+                final String benchmark = result.getParams().getBenchmark();
+                final String key = benchmark.substring(benchmark.lastIndexOf('.') + 1) +
+                        " size=" + result.getParams().getParam("size");
+
+                this.scores.computeIfAbsent(key, _ -> new TreeMap<>())
+                        .put(level, result.getPrimaryResult().getScore());
+            }
+        }
+    }
+
+    /**
+     * Print the speedup table and the crossover points.
+     */
+    private void report() {
+        System.out.format("%n%-50s %8s %16s %9s %11s%n", "Benchmark", "Threads", "Score (ops/s)", "Speedup", "Efficiency");
+
+        this.scores.forEach((key, byLevel) -> {
+            final double single = byLevel.get(byLevel.firstKey());
+
+            byLevel.forEach((level, score) -> {
+                final double speedup = score / single;
+
+                System.out.format("%-50s %8d %16.3f %9.2f %10.1f%%%n", key, level, score, speedup, 100.0 * speedup / level);
+            });
+        });
+
+        System.out.format("%nCrossover against %s%n", BASELINE);
+
+        this.scores.forEach((key, byLevel) -> {
+            if (key.startsWith(BASELINE + " ")) {
+                return;
+            }
+
+            final SortedMap<Integer, Double> baseline = this.scores.get(BASELINE + key.substring(key.indexOf(' ')));
+
+            if (baseline == null) {
+                return;
+            }
+
+            final OptionalInt crossover = byLevel.entrySet().stream()
+                    .filter(entry -> entry.getValue() > baseline.getOrDefault(entry.getKey(), Double.MAX_VALUE))
+                    .mapToInt(Map.Entry::getKey)
+                    .findFirst();
+
+            System.out.format("%-50s %s%n", key, crossover.isPresent() ? crossover.getAsInt() + " thread(s)" : "never");
+        });
+    }
+}
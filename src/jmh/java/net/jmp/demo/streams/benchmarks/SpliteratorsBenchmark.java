@@ -0,0 +1,277 @@
+package net.jmp.demo.streams.benchmarks;
+
+/*
+ * (#)SpliteratorsBenchmark.java    0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import net.jmp.demo.streams.spliterators.IntArraySpliterator;
+import net.jmp.demo.streams.spliterators.ListSpliterator;
+import net.jmp.demo.streams.spliterators.WordSpliterator;
+
+import static net.jmp.demo.streams.util.SpliteratorUtils.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for the custom spliterators and
+ * the fork-join split-and-consume utilities.
+ * The parallel benchmarks use the common pool,
+ * so their scaling is measured by re-running
+ * them at different common pool parallelism
+ * levels with SpliteratorScaling.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class SpliteratorsBenchmark {
+    /** The words that make up the text. */
+    private static final String[] WORDS = {
+            "lorem", "ipsum", "dolor", "sit", "amet", "consectetur", "adipiscing", "elit"
+    };
+
+    /** The number of integers in the list and the approximate length of the text. */
+    @Param({"1000", "100000", "1000000", "10000000"})
+    private int size;
+
+    /** The integers 1 .. size. */
+    private List<Integer> integers;
+
+    /** The integers 1 .. size as primitives. */
+    private int[] array;
+
+    /** The text of words separated by single spaces. */
+    private String text;
+
+    /**
+     * The default constructor.
+     */
+    public SpliteratorsBenchmark() {
+        super();
+    }
+
+    /**
+     * Build the inputs once per trial.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.integers = new ArrayList<>(this.size);
+
+        IntStream.rangeClosed(1, this.size).forEach(this.integers::add);
+
+        this.array = IntStream.rangeClosed(1, this.size).toArray();
+
+        final StringBuilder sb = new StringBuilder(this.size + 16);
+
+        for (int i = 0; sb.length() < this.size; i++) {
+            sb.append(WORDS[i % WORDS.length]).append(' ');
+        }
+
+        this.text = sb.toString();
+    }
+
+    /**
+     * A plain loop over the list. This is the
+     * sequential baseline that the parallel
+     * benchmarks need to beat.
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long sequentialLoop() {
+        long sum = 0;
+
+        for (final Integer integer : this.integers) {
+            sum += integer;
+        }
+
+        return sum;
+    }
+
+    /**
+     * Traverse the list spliterator sequentially.
+     *
+     * @param   blackhole   org.openjdk.jmh.infra.Blackhole
+     */
+    @Benchmark
+    public void listSpliterator(final Blackhole blackhole) {
+        new ListSpliterator<>(this.integers).forEachRemaining(blackhole::consume);
+    }
+
+    /**
+     * Traverse the array list spliterator sequentially.
+     *
+     * @param   blackhole   org.openjdk.jmh.infra.Blackhole
+     */
+    @Benchmark
+    public void arrayListSpliterator(final Blackhole blackhole) {
+        this.integers.spliterator().forEachRemaining(blackhole::consume);
+    }
+
+    /**
+     * Sum a parallel stream over the list spliterator.
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long listSpliteratorParallelStream() {
+        return StreamSupport.stream(new ListSpliterator<>(this.integers), true)
+                .mapToLong(Integer::longValue)
+                .sum();
+    }
+
+    /**
+     * Sum a parallel stream over the array list spliterator.
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long arrayListParallelStream() {
+        return this.integers.parallelStream()
+                .mapToLong(Integer::longValue)
+                .sum();
+    }
+
+    /**
+     * Count the white space in the text with
+     * a parallel stream over the word spliterator.
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long wordSpliteratorParallelStream() {
+        return StreamSupport.stream(new WordSpliterator(this.text), true)
+                .filter(Character::isWhitespace)
+                .count();
+    }
+
+    /**
+     * Count the white space in the text
+     * with a parallel String.chars() stream.
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long stringCharsParallelStream() {
+        return this.text.chars()
+                .parallel()
+                .filter(Character::isWhitespace)
+                .count();
+    }
+
+    /**
+     * Sum the list by splitting evenly.
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long splitAndConsumeEvenlyList() {
+        final LongAdder sum = new LongAdder();
+        final ListSpliterator<Integer> spliterator = new ListSpliterator<>(this.integers);
+
+        splitAndConsumeEvenly(spliterator, i -> sum.add(i), sum::intValue);
+
+        return sum.sum();
+    }
+
+    /**
+     * Sum the list by splitting unevenly.
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long splitAndConsumeUnevenlyList() {
+        final LongAdder sum = new LongAdder();
+        final ListSpliterator<Integer> spliterator = new ListSpliterator<>(this.integers);
+
+        splitAndConsumeUnevenly(spliterator, i -> sum.add(i));
+
+        return sum.sum();
+    }
+
+    /**
+     * Sum the int array by splitting evenly
+     * without boxing the elements.
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long splitAndConsumeIntsEvenlyArray() {
+        final LongAdder sum = new LongAdder();
+        final IntArraySpliterator spliterator = new IntArraySpliterator(this.array);
+
+        splitAndConsumeIntsEvenly(spliterator, sum::add, sum::intValue);
+
+        return sum.sum();
+    }
+
+    /**
+     * Sum the int array by splitting unevenly
+     * without boxing the elements.
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long splitAndConsumeIntsUnevenlyArray() {
+        final LongAdder sum = new LongAdder();
+        final IntArraySpliterator spliterator = new IntArraySpliterator(this.array);
+
+        splitAndConsumeIntsUnevenly(spliterator, sum::add);
+
+        return sum.sum();
+    }
+
+    /**
+     * Sum the list with parallelStream().forEach().
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long parallelStreamForEach() {
+        final LongAdder sum = new LongAdder();
+
+        this.integers.parallelStream().forEach(i -> sum.add(i));
+
+        return sum.sum();
+    }
+}
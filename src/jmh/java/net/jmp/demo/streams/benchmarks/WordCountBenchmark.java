@@ -0,0 +1,209 @@
+package net.jmp.demo.streams.benchmarks;
+
+/*
+ * (#)WordCountBenchmark.java   0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.lang.foreign.MemorySegment;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Random;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.stream.StreamSupport;
+
+import net.jmp.demo.streams.records.WordCount;
+
+import net.jmp.demo.streams.spliterators.MappedRangeSpliterator;
+import net.jmp.demo.streams.spliterators.WordSpliterator;
+
+import net.jmp.demo.streams.util.MappedWordCounter;
+import net.jmp.demo.streams.util.WordCountEngine;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks that count the words in the same text
+ * with the scalar and the SWAR word count engines,
+ * both on one thread over a heap segment and in
+ * parallel over a memory-mapped file, against the
+ * character-at-a-time WordSpliterator path.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Benchmark)
+public class WordCountBenchmark {
+    /** The number of bytes of text. */
+    @Param({"65536", "16777216"})
+    private int size;
+
+    /** The text. */
+    private String text;
+
+    /** The text as a heap segment. */
+    private MemorySegment segment;
+
+    /** The text file. */
+    private Path file;
+
+    /**
+     * The default constructor.
+     */
+    public WordCountBenchmark() {
+        super();
+    }
+
+    /**
+     * Generate the text and write it once per trial.
+     *
+     * @throws  java.io.IOException When the file cannot be written
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final Random random = new Random(42);
+        final StringBuilder builder = new StringBuilder(this.size + 16);
+
+        while (builder.length() < this.size) {
+            for (int i = 1 + random.nextInt(10); i > 0; i--) {
+                builder.append((char) ('a' + random.nextInt(26)));
+            }
+
+            builder.append(random.nextInt(8) == 0 ? '\n' : ' ');
+        }
+
+        builder.setLength(this.size);
+
+        this.text = builder.toString();
+        this.segment = MemorySegment.ofArray(this.text.getBytes(StandardCharsets.US_ASCII));
+        this.file = Files.createTempFile("words", ".txt");
+
+        Files.writeString(this.file, this.text);
+    }
+
+    /**
+     * Delete the file.
+     *
+     * @throws  java.io.IOException When the file cannot be deleted
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.delete(this.file);
+    }
+
+    /**
+     * Count the words on one thread with the scalar engine.
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long scalarEngine() {
+        return WordCountEngine.SCALAR.count(this.segment).words();
+    }
+
+    /**
+     * Count the words on one thread with the SWAR engine.
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long swarEngine() {
+        return WordCountEngine.SWAR.count(this.segment).words();
+    }
+
+    /**
+     * Count the words on one thread a character at a
+     * time through WordSpliterator, boxing each one.
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long wordSpliterator() {
+        final long[] words = new long[1];
+        final boolean[] lastSpace = {true};
+
+        new WordSpliterator(this.text).forEachRemaining(character -> {
+            final boolean space = Character.isWhitespace(character);
+
+            if (lastSpace[0] && !space) {
+                words[0]++;
+            }
+
+            lastSpace[0] = space;
+        });
+
+        return words[0];
+    }
+
+    /**
+     * Count the words in parallel over the heap
+     * segment split at white space, with the SWAR
+     * engine, leaving out the cost of mapping.
+     *
+     * @return  long
+     */
+    @Benchmark
+    public long swarEngineParallelStream() {
+        return StreamSupport.stream(new MappedRangeSpliterator(this.segment), true)
+                .map(WordCountEngine.SWAR::count)
+                .reduce(WordCount.EMPTY, WordCount::combine)
+                .words();
+    }
+
+    /**
+     * Count the words in the mapped file in parallel with the scalar engine.
+     *
+     * @return                      long
+     * @throws  java.io.IOException When the file cannot be mapped
+     */
+    @Benchmark
+    public long mappedScalarEngine() throws IOException {
+        return new MappedWordCounter(this.file, WordCountEngine.SCALAR).countWords();
+    }
+
+    /**
+     * Count the words in the mapped file in parallel with the SWAR engine.
+     *
+     * @return                      long
+     * @throws  java.io.IOException When the file cannot be mapped
+     */
+    @Benchmark
+    public long mappedSwarEngine() throws IOException {
+        return new MappedWordCounter(this.file, WordCountEngine.SWAR).countWords();
+    }
+}
@@ -1,11 +1,9 @@
-package net.jmp.demo.streams.spliterators;
-
 /*
- * (#)AdvanceCounter.java   0.9.0   09/13/2024
+ * (#)package-info.java 0.14.0  10/17/2026
  *
  * @author   Jonathan Parker
- * @version  0.9.0
- * @since    0.9.0
+ * @version  0.14.0
+ * @since    0.14.0
  *
  * MIT License
  *
@@ -31,27 +29,9 @@ package net.jmp.demo.streams.spliterators;
  */
 
 /**
- * An advance counter. Spliterators that wish to
- * count the number of times that tryAdvance()
- * returns true should extend this class.
+ * A package containing JMH benchmarks.
+ *
+ * @version 0.14.0
+ * @since   0.14.0
  */
-public class AdvanceCounter {
-    /** The counter. */
-    protected long count;
-
-    /**
-     * The default constructor.
-     */
-    protected AdvanceCounter() {
-        super();
-    }
-
-    /**
-     * Return the count.
-     *
-     * @return  long
-     */
-    public long getCount() {
-        return this.count;
-    }
-}
+package net.jmp.demo.streams.benchmarks;
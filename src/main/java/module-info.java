@@ -1,7 +1,8 @@
 /*
+ * (#)module-info.java  0.14.0  10/17/2026
  * (#)module-info.java  0.1.0   08/24/2024
  *
- * @version 0.1.0
+ * @version 0.14.0
  * @since   0.1.0
  *
  * MIT License
@@ -34,6 +35,9 @@
  */
 module streams.demo.main {
     requires java.base;
+    requires java.management;
+    requires jdk.jfr;
+    requires jdk.management;
 
     requires logging.utilities;
     requires org.apache.commons.lang3;
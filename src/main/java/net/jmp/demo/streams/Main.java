@@ -1,6 +1,7 @@
 package net.jmp.demo.streams;
 
 /*
+ * (#)Main.java 0.14.0  10/17/2026
  * (#)Main.java 0.10.0  09/24/2024
  * (#)Main.java 0.9.0   09/09/2024
  * (#)Main.java 0.8.0   09/07/2024
@@ -11,7 +12,7 @@ package net.jmp.demo.streams;
  * (#)Main.java 0.1.0   08/24/2024
  *
  * @author   Jonathan Parker
- * @version  0.10.0
+ * @version  0.14.0
  * @since    0.1.0
  *
  * MIT License
@@ -37,21 +38,62 @@ package net.jmp.demo.streams;
  * SOFTWARE.
  */
 
-import java.util.Objects;
+import java.io.IOException;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import java.nio.file.Path;
+
+import java.util.*;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import java.util.function.Supplier;
+
+import java.util.stream.Collectors;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import net.jmp.demo.streams.demos.*;
 
+import net.jmp.demo.streams.records.DemoMetrics;
+import net.jmp.demo.streams.records.DemoOptions;
+
+import net.jmp.demo.streams.util.DemoArguments;
+import net.jmp.demo.streams.util.DemoMeter;
+import net.jmp.demo.streams.util.DemoReport;
+import net.jmp.demo.streams.util.DemoUtils;
+import net.jmp.demo.streams.util.LoadGenerator;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
 
 /**
  * The main class.
  */
 final class Main implements Runnable {
+    /** The system property that names the JSON demo report file. */
+    private static final String REPORT_FILE_PROPERTY = "demo.report.file";
+
+    /** The default JSON demo report file. */
+    private static final String REPORT_FILE_DEFAULT = "build/reports/demos/demo-report.json";
+
+    /** The logging MDC key that names the demo copy in concurrent runs. */
+    private static final String DEMO_MDC_KEY = "demo";
+
+    /** The system property that sets the common fork-join pool parallelism. */
+    private static final String PARALLELISM_PROPERTY = "java.util.concurrent.ForkJoinPool.common.parallelism";
+
     /** The logger. */
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
@@ -86,7 +128,12 @@ final class Main implements Runnable {
             this.logger.debug("{} {}", Name.NAME_STRING, Version.VERSION_STRING);
         }
 
-        this.runDemos();
+        try {
+            this.runDemos(DemoArguments.parse(this.arguments));
+        } catch (final IllegalArgumentException iae) {
+            this.logger.error(iae.getMessage());
+            this.logger.error(DemoArguments.USAGE);
+        }
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exit());
@@ -94,24 +141,395 @@ final class Main implements Runnable {
     }
 
     /**
-     * Method that runs the demo classes.
+     * Method that runs the selected demo classes,
+     * or the selected methods of them, measuring
+     * each iteration, and then reports the
+     * measurements.
+     *
+     * @param   options net.jmp.demo.streams.records.DemoOptions
      */
-    private void runDemos() {
+    private void runDemos(final DemoOptions options) {
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entry());
+            this.logger.trace(entryWith(options));
+        }
+
+        DemoUtils.configure(options);
+
+        this.setParallelism(options.parallelism());
+
+        final List<Supplier<Demo>> demos = this.selectDemos(options.demos());
+
+        if (options.load().duration() > 0) {
+            this.runLoad(demos, options);
+        } else {
+            final List<DemoMetrics> metrics = options.concurrency() == 0
+                    ? this.runSequentially(demos, options)
+                    : this.runConcurrently(demos, options);
+
+            this.report(new DemoReport(options, metrics));
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /**
+     * Drive the workloads of the demos with the load
+     * generator for the configured duration and report
+     * the latencies along with the resources the whole
+     * run used.
+     *
+     * @param   demos   java.util.List&lt;java.util.function.Supplier&lt;net.jmp.demo.streams.demos.Demo&gt;&gt;
+     * @param   options net.jmp.demo.streams.records.DemoOptions
+     */
+    private void runLoad(final List<Supplier<Demo>> demos, final DemoOptions options) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(demos, options));
+        }
+
+        final Map<String, Demo> workloads = new LinkedHashMap<>();
+
+        for (final Supplier<Demo> demo : demos) {
+            workloads.putAll(this.workloads(demo.get(), options.methods()));
+        }
+
+        final LoadGenerator generator = new LoadGenerator(options.load(), workloads);
+        final DemoMetrics metrics = new DemoMeter().measure("Load", 0, 1, generator::run);
+
+        this.report(new DemoReport(options, List.of(metrics), generator.getReport()));
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /**
+     * Run the demos one after another on
+     * this thread and return their metrics.
+     *
+     * @param   demos   java.util.List&lt;java.util.function.Supplier&lt;net.jmp.demo.streams.demos.Demo&gt;&gt;
+     * @param   options net.jmp.demo.streams.records.DemoOptions
+     * @return          java.util.List&lt;net.jmp.demo.streams.records.DemoMetrics&gt;
+     */
+    private List<DemoMetrics> runSequentially(final List<Supplier<Demo>> demos, final DemoOptions options) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(demos, options));
+        }
+
+        final List<DemoMetrics> metrics = new ArrayList<>();
+        final DemoMeter meter = new DemoMeter();
+
+        for (final Supplier<Demo> demo : demos) {
+            metrics.addAll(this.runWorkloads(demo.get(), 0, options, meter));
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(metrics));
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Run the configured number of copies of every
+     * demo at once, one virtual thread per copy, so
+     * that their parallel streams compete for the
+     * common fork-join pool. Each copy runs with its
+     * name in the logging MDC so that its output can
+     * be told apart and sifted into its own log. The
+     * returned metrics hold one entry per copy and
+     * iteration followed by the totals of the run.
+     *
+     * @param   demos   java.util.List&lt;java.util.function.Supplier&lt;net.jmp.demo.streams.demos.Demo&gt;&gt;
+     * @param   options net.jmp.demo.streams.records.DemoOptions
+     * @return          java.util.List&lt;net.jmp.demo.streams.records.DemoMetrics&gt;
+     */
+    private List<DemoMetrics> runConcurrently(final List<Supplier<Demo>> demos, final DemoOptions options) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(demos, options));
+        }
+
+        final DemoMeter copyMeter = new DemoMeter(false);
+        final List<Future<List<DemoMetrics>>> futures = new ArrayList<>();
+
+        final Runnable allCopies = () -> {
+            try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (final Supplier<Demo> supplier : demos) {
+                    for (int copy = 1; copy <= options.concurrency(); copy++) {
+                        final Demo demo = supplier.get();
+                        final int copyNumber = copy;
+
+                        futures.add(executor.submit(() -> this.runCopy(demo, copyNumber, options, copyMeter)));
+                    }
+                }
+            }
+        };
+
+        final DemoMetrics total = new DemoMeter().measure("All copies", 0, 1, allCopies);
+        final List<DemoMetrics> metrics = new ArrayList<>();
+
+        for (final Future<List<DemoMetrics>> future : futures) {
+            try {
+                metrics.addAll(future.get());
+            } catch (final ExecutionException ee) {
+                this.logger.error("A demo copy failed: {}", ee.getCause().toString());
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        metrics.add(total);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(metrics));
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Run one copy of a demo with the copy name
+     * in the logging MDC and return its metrics.
+     *
+     * @param   demo    net.jmp.demo.streams.demos.Demo
+     * @param   copy    int
+     * @param   options net.jmp.demo.streams.records.DemoOptions
+     * @param   meter   net.jmp.demo.streams.util.DemoMeter
+     * @return          java.util.List&lt;net.jmp.demo.streams.records.DemoMetrics&gt;
+     */
+    private List<DemoMetrics> runCopy(final Demo demo,
+                                      final int copy,
+                                      final DemoOptions options,
+                                      final DemoMeter meter) {
+        MDC.put(DEMO_MDC_KEY, demo.getClass().getSimpleName() + "-" + copy);
+
+        try {
+            return this.runWorkloads(demo, copy, options, meter);
+        } finally {
+            MDC.remove(DEMO_MDC_KEY);
+        }
+    }
+
+    /**
+     * Run the demo, or the selected methods of it,
+     * for each iteration and return the metrics.
+     *
+     * @param   demo    net.jmp.demo.streams.demos.Demo
+     * @param   copy    int
+     * @param   options net.jmp.demo.streams.records.DemoOptions
+     * @param   meter   net.jmp.demo.streams.util.DemoMeter
+     * @return          java.util.List&lt;net.jmp.demo.streams.records.DemoMetrics&gt;
+     */
+    private List<DemoMetrics> runWorkloads(final Demo demo,
+                                           final int copy,
+                                           final DemoOptions options,
+                                           final DemoMeter meter) {
+        final List<DemoMetrics> metrics = new ArrayList<>();
+
+        for (final Map.Entry<String, Demo> workload : this.workloads(demo, options.methods()).entrySet()) {
+            for (int iteration = 1; iteration <= options.iterations(); iteration++) {
+                metrics.add(meter.measure(workload.getKey(), copy, iteration, workload.getValue()::demo));
+            }
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Return the workloads of the demo by name: the
+     * demo itself, or, when methods are selected, a
+     * demo that invokes each of the selected methods.
+     *
+     * @param   demo    net.jmp.demo.streams.demos.Demo
+     * @param   methods java.util.Set&lt;java.lang.String&gt;
+     * @return          java.util.Map&lt;java.lang.String, net.jmp.demo.streams.demos.Demo&gt;
+     */
+    private Map<String, Demo> workloads(final Demo demo, final Set<String> methods) {
+        final Map<String, Demo> workloads = new LinkedHashMap<>();
+        final String demoName = demo.getClass().getSimpleName();
+
+        if (methods.isEmpty()) {
+            workloads.put(demoName, demo);
+        } else {
+            for (final Method method : this.selectMethods(demo, methods)) {
+                workloads.put(demoName + "." + method.getName(), () -> this.invoke(demo, method));
+            }
+        }
+
+        return workloads;
+    }
+
+    /**
+     * Set the common fork-join pool parallelism. This
+     * only takes effect if the pool has not yet been
+     * created, so a warning is logged when it differs.
+     *
+     * @param   parallelism int
+     */
+    private void setParallelism(final int parallelism) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(parallelism));
+        }
+
+        if (parallelism > 0) {
+            System.setProperty(PARALLELISM_PROPERTY, String.valueOf(parallelism));
+
+            if (ForkJoinPool.getCommonPoolParallelism() != parallelism) {
+                this.logger.warn("The common pool parallelism is {}, not {}; set -D{}={} instead",
+                        ForkJoinPool.getCommonPoolParallelism(),
+                        parallelism,
+                        PARALLELISM_PROPERTY,
+                        parallelism);
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /**
+     * Return the constructors of the demos whose
+     * names are in the set, or of all of them if
+     * the set is empty. Names are matched ignoring
+     * case and the Demo suffix.
+     *
+     * @param   names   java.util.Set&lt;java.lang.String&gt;
+     * @return          java.util.List&lt;java.util.function.Supplier&lt;net.jmp.demo.streams.demos.Demo&gt;&gt;
+     */
+    private List<Supplier<Demo>> selectDemos(final Set<String> names) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(names));
+        }
+
+        final Map<String, Supplier<Demo>> demos = new LinkedHashMap<>();
+
+        demos.put(this.demoKey("BasicsDemo"), BasicsDemo::new);
+        demos.put(this.demoKey("AdvancedDemo"), AdvancedDemo::new);
+        demos.put(this.demoKey("CollectorsDemo"), CollectorsDemo::new);
+        demos.put(this.demoKey("MapMultiDemo"), MapMultiDemo::new);
+        demos.put(this.demoKey("GatherersDemo"), GatherersDemo::new);
+        demos.put(this.demoKey("ReduceDemo"), ReduceDemo::new);
+        demos.put(this.demoKey("SpliteratorsDemo"), SpliteratorsDemo::new);
+
+        final Set<String> wanted = names.stream()
+                .map(this::demoKey)
+                .collect(Collectors.toSet());
+
+        for (final String name : wanted) {
+            if (!demos.containsKey(name)) {
+                throw new IllegalArgumentException("Unknown demo: " + name);
+            }
+        }
+
+        final List<Supplier<Demo>> selected = demos.entrySet().stream()
+                .filter(entry -> wanted.isEmpty() || wanted.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(selected));
+        }
+
+        return selected;
+    }
+
+    /**
+     * Return the key used to match a demo name.
+     *
+     * @param   name    java.lang.String
+     * @return          java.lang.String
+     */
+    private String demoKey(final String name) {
+        final String key = name.toLowerCase(Locale.ROOT);
+
+        return key.endsWith("demo") ? key.substring(0, key.length() - 4) : key;
+    }
+
+    /**
+     * Return the no-argument methods of the demo
+     * whose names are in the set. A name that is
+     * not a no-argument method of the demo is
+     * skipped, so one list of names can cover
+     * several demos.
+     *
+     * @param   demo    net.jmp.demo.streams.demos.Demo
+     * @param   names   java.util.Set&lt;java.lang.String&gt;
+     * @return          java.util.List&lt;java.lang.reflect.Method&gt;
+     */
+    private List<Method> selectMethods(final Demo demo, final Set<String> names) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(demo, names));
+        }
+
+        final List<Method> methods = new ArrayList<>();
+
+        for (final String name : names.stream().sorted().toList()) {
+            try {
+                final Method method = demo.getClass().getDeclaredMethod(name);
+
+                method.setAccessible(true);
+                methods.add(method);
+            } catch (final NoSuchMethodException nsme) {
+                this.logger.debug("{} has no method {}()", demo.getClass().getSimpleName(), name);
+            }
+        }
+
+        if (methods.isEmpty()) {
+            this.logger.warn("{} has none of the methods {}", demo.getClass().getSimpleName(), names);
         }
 
-        Stream<Demo> demos = Stream.of(
-                new BasicsDemo(),
-                new AdvancedDemo(),
-                new CollectorsDemo(),
-                new MapMultiDemo(),
-                new GatherersDemo(),
-                new ReduceDemo(),
-                new SpliteratorsDemo()
-        );
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(methods));
+        }
+
+        return methods;
+    }
 
-        demos.forEach(Demo::demo);
+    /**
+     * Invoke the demo method and consume its result
+     * so that lazily evaluated streams do their work.
+     *
+     * @param   demo    net.jmp.demo.streams.demos.Demo
+     * @param   method  java.lang.reflect.Method
+     */
+    private void invoke(final Demo demo, final Method method) {
+        final Object result;
+
+        try {
+            result = method.invoke(demo);
+        } catch (final IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Unable to invoke " + method.getName(), e);
+        }
+
+        switch (result) {
+            case Stream<?> stream -> stream.forEach(_ -> {});
+            case IntStream stream -> stream.forEach(_ -> {});
+            case LongStream stream -> stream.forEach(_ -> {});
+            case DoubleStream stream -> stream.forEach(_ -> {});
+            case null, default -> { }
+        }
+    }
+
+    /**
+     * Log the summary table and write
+     * the JSON report.
+     *
+     * @param   report  net.jmp.demo.streams.util.DemoReport
+     */
+    private void report(final DemoReport report) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(report));
+        }
+
+        report.logSummary();
+
+        try {
+            report.writeJson(Path.of(System.getProperty(REPORT_FILE_PROPERTY, REPORT_FILE_DEFAULT)));
+        } catch (final IOException ioe) {
+            this.logger.error("Unable to write the demo report: {}", ioe.getMessage());
+        }
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exit());
@@ -1,6 +1,7 @@
 package net.jmp.demo.streams;
 
 /*
+ * (#)Version.java  0.14.0  10/17/2026
  * (#)Version.java  0.13.0  11/04/2024
  * (#)Version.java  0.12.0  10/28/2024
  * (#)Version.java  0.11.0  10/26/2024
@@ -16,7 +17,7 @@ package net.jmp.demo.streams;
  * (#)Version.java  0.1.0   08/24/2024
  *
  * @author    Jonathan Parker
- * @version   0.13.0
+ * @version   0.14.0
  * @since     0.1.0
  *
  * MIT License
@@ -47,7 +48,7 @@ package net.jmp.demo.streams;
  */
 final class Version {
     /** The version. */
-    static final String VERSION_STRING = "0.13.0";
+    static final String VERSION_STRING = "0.14.0";
 
     /**
      * The default constructor.
@@ -0,0 +1,199 @@
+package net.jmp.demo.streams.collectors;
+
+/*
+ * (#)WordCountingCollector.java    0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.function.*;
+
+import java.util.stream.Collector;
+
+import net.jmp.demo.streams.records.WordCount;
+
+/**
+ * A collector that counts the words in a stream of
+ * characters. Each thread accumulates into one mutable
+ * counter, so the only objects allocated are one counter
+ * per split and the word count returned by the finisher.
+ * A counter remembers whether its characters begin and
+ * end with white space, so that a word that straddles
+ * two splits is counted once when they are combined.
+ */
+public final class WordCountingCollector implements Collector<Character, WordCountingCollector.Counter, WordCount> {
+    /**
+     * The default constructor.
+     */
+    public WordCountingCollector() {
+        super();
+    }
+
+    /**
+     * The supplier.
+     *
+     * @return  java.util.function.Supplier&lt;net.jmp.demo.streams.collectors.WordCountingCollector.Counter&gt;
+     */
+    @Override
+    public Supplier<Counter> supplier() {
+        return Counter::new;
+    }
+
+    /**
+     * The accumulator.
+     *
+     * @return  java.util.function.BiConsumer&lt;net.jmp.demo.streams.collectors.WordCountingCollector.Counter, java.lang.Character&gt;
+     */
+    @Override
+    public BiConsumer<Counter, Character> accumulator() {
+        return Counter::accept;
+    }
+
+    /**
+     * The combiner.
+     *
+     * @return  java.util.function.BinaryOperator&lt;net.jmp.demo.streams.collectors.WordCountingCollector.Counter&gt;
+     */
+    @Override
+    public BinaryOperator<Counter> combiner() {
+        return Counter::combine;
+    }
+
+    /**
+     * The finisher.
+     *
+     * @return  java.util.function.Function&lt;net.jmp.demo.streams.collectors.WordCountingCollector.Counter, net.jmp.demo.streams.records.WordCount&gt;
+     */
+    @Override
+    public Function<Counter, WordCount> finisher() {
+        return Counter::toWordCount;
+    }
+
+    /**
+     * Return the collector's characteristics.
+     *
+     * @return  java.util.Set&lt;java.util.stream.Characteristics&gt;
+     */
+    @Override
+    public Set<Characteristics> characteristics() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * The mutable container of a word count. It
+     * accepts code points as well as characters,
+     * so IntStream.collect() can use it too.
+     */
+    public static final class Counter {
+        /** The number of characters or code points accepted. */
+        private long length;
+
+        /** The number of words begun. */
+        private long words;
+
+        /** True when the first character was white space. */
+        private boolean leadingSpace;
+
+        /** True when the last character was white space, or none has been accepted. */
+        private boolean lastSpace = true;
+
+        /**
+         * The default constructor.
+         */
+        public Counter() {
+            super();
+        }
+
+        /**
+         * Accept the next character or code point.
+         *
+         * @param   codePoint   int
+         */
+        public void accept(final int codePoint) {
+            final boolean space = Character.isWhitespace(codePoint);
+
+            if (this.length == 0) {
+                this.leadingSpace = space;
+            }
+
+            if (this.lastSpace && !space) {
+                this.words++;
+            }
+
+            this.lastSpace = space;
+            this.length++;
+        }
+
+        /**
+         * Combine this counter with the counter of the
+         * characters that immediately follow it. This
+         * counter is updated in place and returned.
+         *
+         * @param   next    net.jmp.demo.streams.collectors.WordCountingCollector.Counter
+         * @return          net.jmp.demo.streams.collectors.WordCountingCollector.Counter
+         */
+        public Counter combine(final Counter next) {
+            if (next.length == 0) {
+                return this;
+            }
+
+            if (this.length == 0) {
+                this.leadingSpace = next.leadingSpace;
+            } else if (!this.lastSpace && !next.leadingSpace) {
+                this.words--;   // The word that straddles the boundary was begun twice
+            }
+
+            this.length += next.length;
+            this.words += next.words;
+            this.lastSpace = next.lastSpace;
+
+            return this;
+        }
+
+        /**
+         * Return the number of words.
+         *
+         * @return  long
+         */
+        public long getWords() {
+            return this.words;
+        }
+
+        /**
+         * Return the count as a word count record.
+         *
+         * @return  net.jmp.demo.streams.records.WordCount
+         */
+        public WordCount toWordCount() {
+            return this.length == 0
+                    ? WordCount.EMPTY
+                    : new WordCount(this.length, this.words, this.leadingSpace, this.lastSpace);
+        }
+    }
+}
@@ -1,13 +1,14 @@
 package net.jmp.demo.streams.demos;
 
 /*
+ * (#)AdvancedDemo.java 0.14.0  10/17/2026
  * (#)AdvancedDemo.java 0.10.0  09/24/2024
  * (#)AdvancedDemo.java 0.5.0   09/04/2024
  * (#)AdvancedDemo.java 0.4.0   08/30/2024
  * (#)AdvancedDemo.java 0.3.0   08/29/2024
  *
  * @author   Jonathan Parker
- * @version  0.10.0
+ * @version  0.14.0
  * @since    0.3.0
  *
  * MIT License
@@ -43,6 +44,8 @@ import java.util.stream.Stream;
 
 import net.jmp.demo.streams.records.*;
 
+import static net.jmp.demo.streams.util.DemoUtils.stream;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
@@ -253,7 +256,7 @@ public final class AdvancedDemo implements Demo {
          *  a stream
          */
 
-        final Stream<String> stream = this.getAllDishes().stream()
+        final Stream<String> stream = stream(this.getAllDishes())
                 .flatMap(dishes -> dishes.listOfDishes().stream()
                         .map(Dish::name)
                 );
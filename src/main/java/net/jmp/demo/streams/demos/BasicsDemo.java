@@ -1,13 +1,14 @@
 package net.jmp.demo.streams.demos;
 
 /*
+ * (#)BasicsDemo.java   0.14.0  10/17/2026
  * (#)BasicsDemo.java   0.10.0  09/24/2024
  * (#)BasicsDemo.java   0.3.0   08/29/2024
  * (#)BasicsDemo.java   0.2.0   08/25/2024
  * (#)BasicsDemo.java   0.1.0   08/24/2024
  *
  * @author   Jonathan Parker
- * @version  0.10.0
+ * @version  0.14.0
  * @since    0.1.0
  *
  * MIT License
@@ -49,6 +50,7 @@ import java.util.stream.Stream;
 import net.jmp.demo.streams.records.*;
 
 import static net.jmp.demo.streams.util.DemoUtils.*;
+import static net.jmp.demo.streams.util.SpliteratorUtils.concatAll;
 
 import static net.jmp.util.logging.LoggerUtils.*;
 
@@ -128,6 +130,7 @@ public final class BasicsDemo implements Demo {
             this.ofNullableAndEmpty().forEach(e -> this.logger.info("This won't print: {}", e));
             this.getDishNames().toList().forEach(name -> this.logger.info("List: {}", name));
             this.concatenateTwoStreams().forEach(e -> this.logger.info("Concat: {}", e));
+            this.logger.info("Concat all sum: {}", this.concatenateManyStreams());
             this.peek().forEach(e -> this.logger.info("Peek: {}", e));
 
             this.logger.info(this.forEachOrdered());
@@ -210,7 +213,7 @@ public final class BasicsDemo implements Demo {
             this.logger.trace(entry());
         }
 
-        final Stream<String> names = listOfDishes().stream()
+        final Stream<String> names = streamOfDishes()
                 .map(Dish::name);
 
         if (this.logger.isTraceEnabled()) {
@@ -231,7 +234,7 @@ public final class BasicsDemo implements Demo {
             this.logger.trace(entry());
         }
 
-        final Stream<String> names = listOfDishes().stream()
+        final Stream<String> names = streamOfDishes()
                 .map(Dish::name)
                 .sorted();
 
@@ -253,7 +256,7 @@ public final class BasicsDemo implements Demo {
             this.logger.trace(entry());
         }
 
-        final Stream<Integer> lengths = listOfDishes().stream()
+        final Stream<Integer> lengths = streamOfDishes()
                 .map(Dish::name)
                 .map(String::length);
 
@@ -275,7 +278,7 @@ public final class BasicsDemo implements Demo {
             this.logger.trace(entry());
         }
 
-        final Stream<Dish> vegetarianDishes = listOfDishes().stream()
+        final Stream<Dish> vegetarianDishes = streamOfDishes()
                 .filter(Dish::vegetarian);
 
         if (this.logger.isTraceEnabled()) {
@@ -296,7 +299,7 @@ public final class BasicsDemo implements Demo {
             this.logger.trace(entry());
         }
 
-        final Stream<Dish> dishes = listOfDishes().stream()
+        final Stream<Dish> dishes = streamOfDishes()
                 .filter(dish -> dish.calories() > 300)
                 .limit(3);
 
@@ -318,7 +321,7 @@ public final class BasicsDemo implements Demo {
             this.logger.trace(entry());
         }
 
-        final Stream<Dish> dishes = listOfDishes().stream()
+        final Stream<Dish> dishes = streamOfDishes()
                 .filter(dish -> dish.calories() > 300)
                 .skip(3);
 
@@ -340,7 +343,7 @@ public final class BasicsDemo implements Demo {
             this.logger.trace(entryWith(predicate));
         }
 
-        final boolean result = listOfDishes().stream()
+        final boolean result = streamOfDishes()
                 .allMatch(predicate);
 
         if (this.logger.isTraceEnabled()) {
@@ -361,7 +364,7 @@ public final class BasicsDemo implements Demo {
             this.logger.trace(entryWith(predicate));
         }
 
-        final boolean result = listOfDishes().stream()
+        final boolean result = streamOfDishes()
                 .anyMatch(predicate);
 
         if (this.logger.isTraceEnabled()) {
@@ -382,7 +385,7 @@ public final class BasicsDemo implements Demo {
             this.logger.trace(entryWith(predicate));
         }
 
-        final boolean result = listOfDishes().stream()
+        final boolean result = streamOfDishes()
                 .noneMatch(predicate);
 
         if (this.logger.isTraceEnabled()) {
@@ -402,7 +405,7 @@ public final class BasicsDemo implements Demo {
             this.logger.trace(entry());
         }
 
-        final long result = listOfDishes().stream().count();
+        final long result = streamOfDishes().count();
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exitWith(result));
@@ -421,7 +424,7 @@ public final class BasicsDemo implements Demo {
             this.logger.trace(entry());
         }
 
-        final Stream<Dish> dishes = listOfDishes().stream()
+        final Stream<Dish> dishes = streamOfDishes()
                 .sorted(comparing(Dish::calories));
 
         if (this.logger.isTraceEnabled()) {
@@ -441,7 +444,7 @@ public final class BasicsDemo implements Demo {
             this.logger.trace(entry());
         }
 
-        final Stream<String> types = listOfDishes().stream()
+        final Stream<String> types = streamOfDishes()
                 .map(Dish::type)
                 .map(DishType::name)
                 .distinct()
@@ -484,7 +487,7 @@ public final class BasicsDemo implements Demo {
             this.logger.trace(entry());
         }
 
-        final Optional<Dish> dish = listOfDishes().stream().findAny();
+        final Optional<Dish> dish = streamOfDishes().findAny();
         final boolean result = dish.isPresent();
 
         if (this.logger.isTraceEnabled()) {
@@ -506,7 +509,7 @@ public final class BasicsDemo implements Demo {
 
         String result = null;
 
-        final Optional<Dish> dish = listOfDishes().stream().findFirst();
+        final Optional<Dish> dish = streamOfDishes().findFirst();
 
         if (dish.isPresent()) {
             result = dish.get().name();
@@ -531,7 +534,7 @@ public final class BasicsDemo implements Demo {
             this.logger.trace(entry());
         }
 
-        final Optional<Dish> dish = listOfDishes().stream()
+        final Optional<Dish> dish = streamOfDishes()
                 .max(comparing(Dish::calories));
 
         final String result = dish.map(Dish::name).orElse(null);
@@ -555,7 +558,7 @@ public final class BasicsDemo implements Demo {
             this.logger.trace(entry());
         }
 
-        final Optional<Dish> dish = listOfDishes().stream()
+        final Optional<Dish> dish = streamOfDishes()
                 .min(comparing(Dish::calories));
 
         final String result = dish.map(Dish::name).orElse(null);
@@ -667,6 +670,40 @@ public final class BasicsDemo implements Demo {
         return stream;
     }
 
+    /**
+     * Concatenate one hundred partition streams of ten
+     * integers each without nesting Stream.concat(), and
+     * return the sum of the integers from 1-1,000 computed
+     * in parallel.
+     *
+     * @return  long
+     */
+    private long concatenateManyStreams() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final List<Stream<Integer>> partitions = new ArrayList<>();
+
+        for (int partition = 0; partition < 100; partition++) {
+            partitions.add(IntStream.rangeClosed(partition * 10 + 1, partition * 10 + 10).boxed());
+        }
+
+        final long sum;
+
+        try (final Stream<Integer> stream = concatAll(partitions)) {
+            sum = stream.parallel()
+                    .mapToLong(Integer::longValue)
+                    .sum();
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(sum));
+        }
+
+        return sum;
+    }
+
     /**
      * Peet at the stream. Same as forEach()
      * but peek() is not a terminal operation
@@ -1,13 +1,14 @@
 package net.jmp.demo.streams.demos;
 
 /*
+ * (#)CollectorsDemo.java   0.14.0  10/17/2026
  * (#)CollectorsDemo.java   0.10.0  09/24/2024
  * (#)CollectorsDemo.java   0.7.0   09/07/2024
  * (#)CollectorsDemo.java   0.5.0   09/05/2024
  * (#)CollectorsDemo.java   0.4.0   08/30/2024
  *
  * @author   Jonathan Parker
- * @version  0.10.0
+ * @version  0.14.0
  * @since    0.4.0
  *
  * MIT License
@@ -734,7 +735,7 @@ public final class CollectorsDemo implements Demo {
          * result of the capitalizer function.
          */
 
-        final Map<String, List<String>> dishNames = allDishes.stream()
+        final Map<String, List<String>> dishNames = stream(allDishes)
                 .collect(Collectors.groupingBy(Dishes::name,
                         Collectors.flatMapping(dishes -> dishes.listOfDishes().stream()
                                         .map(Dish::name)
@@ -1,6 +1,7 @@
 package net.jmp.demo.streams.demos;
 
 /*
+ * (#)GatherersDemo.java    0.14.0  10/17/2026
  * (#)GatherersDemo.java    0.13.0  11/04/2024
  * (#)GatherersDemo.java    0.12.0  10/28/2024
  * (#)GatherersDemo.java    0.11.0  10/26/2024
@@ -8,7 +9,7 @@ package net.jmp.demo.streams.demos;
  * (#)GatherersDemo.java    0.7.0   09/05/2024
  *
  * @author   Jonathan Parker
- * @version  0.13.0
+ * @version  0.14.0
  * @since    0.7.0
  *
  * MIT License
@@ -51,6 +52,7 @@ import net.jmp.demo.streams.gatherers.ReduceByGatherer;
 import net.jmp.demo.streams.records.Money;
 import net.jmp.demo.streams.records.Offer;
 
+import net.jmp.demo.streams.util.DemoUtils;
 import net.jmp.demo.streams.util.GatherersFactory;
 
 import static net.jmp.util.logging.LoggerUtils.*;
@@ -1123,7 +1125,8 @@ public final class GatherersDemo implements Demo {
     }
 
     /**
-     * Return a stream of money.
+     * Return a stream of money. When the demo
+     * options set a size the money is generated.
      *
      * @return  java.util.stream.Stream&lt;net.jmp.demo.streams.records.Money&gt;
      */
@@ -1132,6 +1135,16 @@ public final class GatherersDemo implements Demo {
             this.logger.trace(entry());
         }
 
+        if (DemoUtils.options().size() > 0) {
+            final Stream<Money> generated = DemoUtils.generatedMoney();
+
+            if (this.logger.isTraceEnabled()) {
+                this.logger.trace(exitWith(generated));
+            }
+
+            return generated;
+        }
+
         final Stream<Money> money = Stream.of(
                 new Money(BigDecimal.valueOf(12), Currency.getInstance("PLN")),
                 new Money(BigDecimal.valueOf(11), Currency.getInstance("EUR")),
@@ -1146,7 +1159,8 @@ public final class GatherersDemo implements Demo {
     }
 
     /**
-     * Return a stream of money with nulls interspersed.
+     * Return a stream of money with nulls interspersed. When
+     * the demo options set a size the money is generated.
      *
      * @return  java.util.stream.Stream&lt;net.jmp.demo.streams.records.Money&gt;
      */
@@ -1155,6 +1169,16 @@ public final class GatherersDemo implements Demo {
             this.logger.trace(entry());
         }
 
+        if (DemoUtils.options().size() > 0) {
+            final Stream<Money> generated = DemoUtils.generatedMoneyWithNulls();
+
+            if (this.logger.isTraceEnabled()) {
+                this.logger.trace(exitWith(generated));
+            }
+
+            return generated;
+        }
+
         // Cannot add nulls in List.of()
 
         final List<Money> money = Arrays.asList(
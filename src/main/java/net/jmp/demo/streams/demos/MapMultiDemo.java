@@ -1,12 +1,13 @@
 package net.jmp.demo.streams.demos;
 
 /*
+ * (#)MapMultiDemo.java 0.14.0  10/17/2026
  * (#)MapMultiDemo.java 0.10.0  09/24/2024
  * (#)MapMultiDemo.java 0.7.0   09/06/2024
  * (#)MapMultiDemo.java 0.6.0   09/04/2024
  *
  * @author   Jonathan Parker
- * @version  0.10.0
+ * @version  0.14.0
  * @since    0.6.0
  *
  * MIT License
@@ -36,10 +37,15 @@ import java.util.List;
 
 import java.util.stream.DoubleStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import net.jmp.demo.streams.records.Album;
 import net.jmp.demo.streams.records.Artist;
 
+import net.jmp.demo.streams.spliterators.FlatteningSpliterator;
+
+import net.jmp.demo.streams.util.DemoUtils;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -77,6 +83,7 @@ public final class MapMultiDemo implements Demo {
             this.mapMultiToDouble().forEach(integer -> this.logger.info("mapMulti2Dbl: {}", integer));
             this.flatMapArtistAlbumPairs().forEach(pair -> this.logger.info("flatMap: {}", pair));
             this.mapMultiArtistAlbumPairs().forEach(pair -> this.logger.info("mapMulti: {}", pair));
+            this.splittableArtistAlbumPairs().forEachOrdered(pair -> this.logger.info("flattening: {}", pair));
             this.mapMultiCopyrightedArtistAlbum().forEach(pair -> this.logger.info("copyright: {}", pair));
             this.mapToMultipleElements().forEach(integer -> this.logger.info("Multi: {}", integer));
         }
@@ -218,6 +225,34 @@ public final class MapMultiDemo implements Demo {
         return artistAlbumPairs;
     }
 
+    /**
+     * Return a parallel stream of pairs of artist/album
+     * names using the flattening spliterator. Unlike
+     * flatMap and mapMulti it can split inside the
+     * artists of one album, so a catalog with a few
+     * very large albums is still spread evenly.
+     *
+     * @return  java.util.stream.Stream&lt;org.apache.commons.lang3.tuple.Pair&lt;java.lang.String, java.lang.String&gt;&gt;
+     */
+    private Stream<Pair<String, String>> splittableArtistAlbumPairs() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final FlatteningSpliterator<Album, Artist, Pair<String, String>> spliterator = new FlatteningSpliterator<>(
+                this.getAlbums().toList(),
+                Album::artists,
+                (album, artist) -> new ImmutablePair<>(artist.name(), album.albumName()));
+
+        final Stream<Pair<String, String>> artistAlbumPairs = StreamSupport.stream(spliterator, true);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(artistAlbumPairs));
+        }
+
+        return artistAlbumPairs;
+    }
+
     /**
      * Return a stream of pairs of copyrighted
      * artist names with their album names and
@@ -267,7 +302,8 @@ public final class MapMultiDemo implements Demo {
     }
 
     /**
-     * Return a stream of albums.
+     * Return a stream of albums. When the demo
+     * options set a size the albums are generated.
      *
      * @return  java.util.stream.Stream&lt;net.jmp.demo.streams.records.Album&gt;
      */
@@ -276,6 +312,16 @@ public final class MapMultiDemo implements Demo {
             this.logger.trace(entry());
         }
 
+        if (DemoUtils.options().size() > 0) {
+            final Stream<Album> generated = DemoUtils.generatedAlbums();
+
+            if (this.logger.isTraceEnabled()) {
+                this.logger.trace(exitWith(generated));
+            }
+
+            return generated;
+        }
+
         final Album album1 = new Album(
                 "Dvorak Symphonies",
                 15,
@@ -1,11 +1,12 @@
 package net.jmp.demo.streams.demos;
 
 /*
+ * (#)SpliteratorsDemo.java 0.14.0  10/17/2026
  * (#)SpliteratorsDemo.java 0.10.0  09/24/2024
  * (#)SpliteratorsDemo.java 0.9.0   09/09/2024
  *
  * @author   Jonathan Parker
- * @version  0.10.0
+ * @version  0.14.0
  * @since    0.9.0
  *
  * MIT License
@@ -31,6 +32,19 @@ package net.jmp.demo.streams.demos;
  * SOFTWARE.
  */
 
+import java.io.IOException;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.charset.StandardCharsets;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Spliterator;
@@ -38,6 +52,7 @@ import java.util.Spliterator;
 import java.util.concurrent.ForkJoinPool;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -46,8 +61,18 @@ import java.util.stream.StreamSupport;
 
 import net.jmp.demo.streams.beans.Article;
 
+import net.jmp.demo.streams.collectors.WordCountingCollector;
+
+import net.jmp.demo.streams.records.DatasetSettings;
+import net.jmp.demo.streams.records.Offer;
+
 import net.jmp.demo.streams.spliterators.*;
 
+import net.jmp.demo.streams.util.CollectorsFactory;
+import net.jmp.demo.streams.util.DatasetGenerator;
+import net.jmp.demo.streams.util.MappedWordCounter;
+import net.jmp.demo.streams.util.SplitTelemetry;
+
 import static net.jmp.demo.streams.util.SpliteratorUtils.*;
 
 import static net.jmp.util.logging.LoggerUtils.*;
@@ -130,9 +155,19 @@ public final class SpliteratorsDemo implements Demo {
             this.logger.info("Sum: {}", this.customListSpliteratorInParallel());
 
             this.logger.info("Words: {}", this.customWordSpliterator());
+            this.logger.info("Code point words: {}", this.customCodePointWordSpliterator());
+            this.logger.info("Mapped file words: {}", this.customMappedWordCount());
+            this.logger.info("Mapped file error lines: {}", this.customMappedLineSpliterator());
+            this.logger.info("Grandchild offers: {}", this.customOfferTreeSpliterator());
 
             this.logger.info("Uneven sum: {}", this.customListSpliteratorUsingForkJoinPoolUnevenly());
             this.logger.info("Even sum: {}", this.customListSpliteratorUsingForkJoinPoolEvenly());
+            this.logger.info("Telemetry sum: {}", this.customListSpliteratorWithTelemetry());
+            this.logger.info("Batched sum: {}", this.customBatchingSpliteratorUsingForkJoinPoolEvenly());
+
+            this.logger.info("Uneven int sum: {}", this.customIntArraySpliteratorUsingForkJoinPoolUnevenly());
+            this.logger.info("Even int sum: {}", this.customIntArraySpliteratorUsingForkJoinPoolEvenly());
+            this.logger.info("Chunked int sum: {}", this.customIntChunksUsingForkJoinPoolEvenly());
         }
 
         if (this.logger.isTraceEnabled()) {
@@ -257,6 +292,175 @@ public final class SpliteratorsDemo implements Demo {
         return result;
     }
 
+    /**
+     * Demonstrate the code point word spliterator using
+     * StreamSupport. Return the number of words found
+     * in the sentence. No characters are boxed.
+     *
+     * @return  int
+     */
+    private int customCodePointWordSpliterator() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final String sentences = "Lorem ipsum dolor sit amet, consectetur adipiscing " +
+                "elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. " +
+                "Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut " +
+                "aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in " +
+                "voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint " +
+                "occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim " +
+                "id est laborum.";
+
+        final CodePointWordSpliterator spliterator = new CodePointWordSpliterator(sentences);
+        final IntStream stream = StreamSupport.intStream(spliterator, true);
+
+        final int result = this.countWords(stream);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Demonstrate counting the words in a memory-mapped
+     * file. The sentence is written to a temporary file
+     * that is split at white space into byte ranges that
+     * are counted in parallel. Return the number of words
+     * found, or -1 if the file cannot be written or read.
+     *
+     * @return  long
+     */
+    private long customMappedWordCount() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final String sentences = "Lorem ipsum dolor sit amet, consectetur adipiscing " +
+                "elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. " +
+                "Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut " +
+                "aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in " +
+                "voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint " +
+                "occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim " +
+                "id est laborum.";
+
+        long result = -1;
+
+        try {
+            final Path file = Files.createTempFile("words", ".txt");
+
+            try {
+                Files.writeString(file, sentences);
+
+                result = new MappedWordCounter(file).countWords();
+            } finally {
+                Files.delete(file);
+            }
+        } catch (final IOException ioe) {
+            this.logger.error("The words could not be counted: {}", ioe.getMessage());
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Demonstrate splitting the lines of a memory-mapped
+     * file evenly across the fork join pool. A log of
+     * 1,000 lines is written to a temporary file and the
+     * lines that begin with ERROR are counted, without
+     * decoding them into strings. Return the
+     * count, or -1 if the file cannot be written or read.
+     *
+     * @return  long
+     */
+    private long customMappedLineSpliterator() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final StringBuilder log = new StringBuilder();
+
+        for (int i = 1; i <= 1_000; i++) {
+            log.append(i % 10 == 0 ? "ERROR " : "INFO ").append("Line ").append(i).append('\n');
+        }
+
+        long result = -1;
+
+        try {
+            final Path file = Files.createTempFile("lines", ".log");
+
+            try {
+                Files.writeString(file, log);
+
+                try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+                     final Arena arena = Arena.ofShared()) {
+                    final MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+                    final MappedLineSpliterator spliterator = new MappedLineSpliterator(segment);
+                    final LongAdder errors = new LongAdder();
+
+                    final MemorySegment error = MemorySegment.ofArray("ERROR".getBytes(StandardCharsets.US_ASCII));
+
+                    result = splitAndConsumeEvenly(spliterator,
+                            line -> {
+                                if (line.byteSize() >= error.byteSize() &&
+                                        line.asSlice(0, error.byteSize()).mismatch(error) == -1) {
+                                    errors.increment();
+                                }
+                            },
+                            errors::sum);
+                }
+            } finally {
+                Files.delete(file);
+            }
+        } catch (final IOException ioe) {
+            this.logger.error("The lines could not be read: {}", ioe.getMessage());
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Demonstrate the offer tree spliterator over a
+     * generated catalog of ten offer trees with a fan-out
+     * of ten and a depth of four, 111,110 offers in all.
+     * The subtree sizes are counted once so the parallel
+     * stream splits the catalog evenly. Return the number
+     * of grandchild offers.
+     *
+     * @return  long
+     */
+    private long customOfferTreeSpliterator() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final DatasetGenerator generator = new DatasetGenerator(new DatasetSettings(42L, 0.0, 0.1, 0.0, 10, 4));
+        final List<Offer> offers = generator.listOfOffers(10);
+        final OfferTreeSpliterator spliterator = new OfferTreeSpliterator(offers, OfferTreeSpliterator.countSubtrees(offers));
+
+        this.logger.debug("Offers: {}", spliterator.estimateSize());
+
+        final long result = StreamSupport.stream(spliterator, true)
+                .filter(offer -> offer.productCode().startsWith("GP"))
+                .count();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
     /**
      * Demonstrate recursive uneven splitting of the
      * list spliterator using the fork join pool.
@@ -314,8 +518,154 @@ public final class SpliteratorsDemo implements Demo {
     }
 
     /**
-     * Method to count the characters
-     * in the stream.
+     * Demonstrate collecting the telemetry of every split
+     * of a parallel stream over the custom list spliterator
+     * and logging the aggregate report. Return the sum of
+     * the integers from 1-100,000.
+     *
+     * @return  long
+     */
+    private long customListSpliteratorWithTelemetry() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final List<Integer> integers = IntStream.rangeClosed(1, 100_000)
+                .boxed()
+                .toList();
+
+        final SplitTelemetry telemetry = new SplitTelemetry();
+
+        final long result = StreamSupport.stream(telemetry.wrap(new ListSpliterator<>(integers)), true)
+                .mapToLong(Integer::longValue)
+                .sum();
+
+        telemetry.logSummary();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Demonstrate even splitting of a source of unknown
+     * size, Stream.iterate(), using the fork join pool.
+     * The batching spliterator hands the source out in
+     * array batches of 256 elements growing to 16,384.
+     * Return the sum of the integers from 1-100,000.
+     *
+     * @return  long
+     */
+    private long customBatchingSpliteratorUsingForkJoinPoolEvenly() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final Spliterator<Integer> source = Stream.iterate(1, i -> i <= 100_000, i -> i + 1).spliterator();
+        final BatchingSpliterator<Integer> spliterator = new BatchingSpliterator<>(source, 256, 16_384, 2.0);
+        final LongAdder sum = new LongAdder();
+
+        final long result = splitAndConsumeEvenly(spliterator, integer -> sum.add(integer), sum::sum);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Demonstrate recursive uneven splitting of the int
+     * array spliterator using the fork join pool. The
+     * integers are never boxed.
+     *
+     * @return  int
+     */
+    private int customIntArraySpliteratorUsingForkJoinPoolUnevenly() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final int[] integers = IntStream.rangeClosed(1, 1_000).toArray();
+
+        final AtomicInteger sum = new AtomicInteger(0);
+        final IntArraySpliterator spliterator = new IntArraySpliterator(integers);
+
+        splitAndConsumeIntsUnevenly(spliterator, sum::addAndGet);
+
+        final int result = sum.get();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Demonstrate recursive even splitting of the int
+     * array spliterator using the fork join pool. The
+     * integers are never boxed.
+     *
+     * @return  int
+     */
+    private int customIntArraySpliteratorUsingForkJoinPoolEvenly() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final int[] integers = IntStream.rangeClosed(1, 1_000).toArray();
+
+        final AtomicInteger sum = new AtomicInteger(0);
+        final IntArraySpliterator spliterator = new IntArraySpliterator(integers);
+
+        final int result = splitAndConsumeIntsEvenly(spliterator, sum::addAndGet, sum::get);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Demonstrate recursive even splitting of the int
+     * array spliterator in chunks of 64 using the fork
+     * join pool. The action is called once per chunk
+     * instead of once per integer, and every chunk but
+     * the last is full.
+     *
+     * @return  int
+     */
+    private int customIntChunksUsingForkJoinPoolEvenly() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final int[] integers = IntStream.rangeClosed(1, 1_000).toArray();
+
+        final AtomicInteger sum = new AtomicInteger(0);
+        final IntArraySpliterator spliterator = new IntArraySpliterator(integers);
+
+        final int result = splitAndConsumeIntChunksEvenly(spliterator,
+                64,
+                chunk -> sum.addAndGet(IntStream.of(chunk).sum()),
+                sum::get);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Method to count the words in a stream of
+     * characters. Each thread accumulates into its
+     * own mutable counter, and counters are combined
+     * correctly even when a word spans two splits.
      *
      * @param   stream  java.util.stream.Stream&lt;java.lang.Character&gt;
      * @return          int
@@ -325,11 +675,33 @@ public final class SpliteratorsDemo implements Demo {
             this.logger.trace(entryWith(stream));
         }
 
-        final WordCounter wordCounter = stream.reduce(new WordCounter(0, true),
-                WordCounter::accumulate,
-                WordCounter::combine);
+        final int result = (int) stream.collect(CollectorsFactory.countingWords()).words();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
 
-        final int result = wordCounter.getCounter();
+        return result;
+    }
+
+    /**
+     * Method to count the words in a stream of
+     * code points. Each thread accumulates into
+     * its own mutable word counter.
+     *
+     * @param   stream  java.util.stream.IntStream
+     * @return          int
+     */
+    private int countWords(final IntStream stream) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(stream));
+        }
+
+        final WordCountingCollector.Counter counter = stream.collect(WordCountingCollector.Counter::new,
+                WordCountingCollector.Counter::accept,
+                WordCountingCollector.Counter::combine);
+
+        final int result = (int) counter.getWords();
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exitWith(result));
@@ -508,62 +880,4 @@ public final class SpliteratorsDemo implements Demo {
 
         return articles;
     }
-
-    /**
-     * A word counter class.
-     */
-    static class WordCounter {
-        /** The counter. */
-        private final int counter;
-
-        /** True when the last space is encountered. */
-        private final boolean lastSpace;
-
-        /**
-         * The constructor.
-         *
-         * @param   counter     int
-         * @param   lastSpace   boolean
-         */
-        WordCounter(final int counter, final boolean lastSpace) {
-            super();
-
-            this.counter = counter;
-            this.lastSpace = lastSpace;
-        }
-
-        /**
-         * The accumulate method.
-         *
-         * @param   c   java.lang.Character
-         * @return      net.jmp.demo.streams.spliterators.WordSpliterator.WordCounter
-         */
-        WordCounter accumulate(final Character c) {
-            if (Character.isWhitespace(c)) {
-                return this.lastSpace ? this : new WordCounter(this.counter, true);
-            } else {
-                return this.lastSpace ? new WordCounter(this.counter + 1, false) : this;
-            }
-        }
-
-        /**
-         * Method to combine two word-counters
-         * by summing their counters.
-         *
-         * @param   wordCounter net.jmp.demo.streams.spliterators.WordSpliterator.WordCounter
-         * @return              net.jmp.demo.streams.spliterators.WordSpliterator.WordCounter
-         */
-        WordCounter combine(final WordCounter wordCounter) {
-            return new WordCounter(this.counter + wordCounter.counter, wordCounter.lastSpace);
-        }
-
-        /**
-         * Method to return the counter.
-         *
-         * @return int
-         */
-        int getCounter() {
-            return this.counter;
-        }
-    }
 }
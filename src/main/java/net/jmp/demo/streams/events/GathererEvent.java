@@ -0,0 +1,72 @@
+package net.jmp.demo.streams.events;
+
+/*
+ * (#)GathererEvent.java    0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event committed when
+ * a custom gatherer finishes.
+ */
+@Name("net.jmp.demo.streams.GathererFinish")
+@Label("Gatherer Finish")
+@Category({"Streams Demo", "Gatherers"})
+@Description("The state size and the elements pushed and rejected by a gatherer")
+@StackTrace(false)
+public final class GathererEvent extends Event {
+    /** The gatherer class. */
+    @Label("Gatherer")
+    public Class<?> gatherer;
+
+    /** The number of entries in the state at finish. */
+    @Label("State Size")
+    public long stateSize;
+
+    /** The number of elements pushed downstream. */
+    @Label("Pushed")
+    public long pushed;
+
+    /** The number of elements not pushed because the downstream was rejecting. */
+    @Label("Rejected")
+    public long rejected;
+
+    /**
+     * The default constructor.
+     */
+    public GathererEvent() {
+        super();
+    }
+}
@@ -0,0 +1,122 @@
+package net.jmp.demo.streams.events;
+
+/*
+ * (#)GathererRecorder.java 0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+
+/**
+ * Counts the elements one evaluation of a gatherer
+ * pushes and rejects and commits a gatherer event
+ * when it finishes. A recorder belongs to a single
+ * evaluation and is not shared between threads, so
+ * gatherers create one in their finisher, or in their
+ * state when the integrator counts, rather than
+ * keeping one per gatherer instance, which pipelines
+ * running at the same time would share. Nothing is
+ * counted while the event is disabled.
+ */
+public final class GathererRecorder {
+    /** The gatherer class. */
+    private final Class<?> gatherer;
+
+    /** True if the gatherer event was enabled when the recorder was created. */
+    private final boolean enabled;
+
+    /** The number of elements pushed. */
+    private long pushed;
+
+    /** The number of elements rejected. */
+    private long rejected;
+
+    /**
+     * The constructor.
+     *
+     * @param   gatherer    java.lang.Class&lt;?&gt;
+     */
+    public GathererRecorder(final Class<?> gatherer) {
+        super();
+
+        this.gatherer = Objects.requireNonNull(gatherer);
+        this.enabled = new GathererEvent().isEnabled();
+    }
+
+    /**
+     * Count an element pushed downstream.
+     */
+    public void pushed() {
+        if (this.enabled) {
+            this.pushed++;
+        }
+    }
+
+    /**
+     * Count an element not pushed
+     * because the downstream was rejecting.
+     */
+    public void rejected() {
+        if (this.enabled) {
+            this.rejected++;
+        }
+    }
+
+    /**
+     * Count elements not pushed
+     * because the downstream was rejecting.
+     *
+     * @param   count   long
+     */
+    public void rejected(final long count) {
+        if (this.enabled) {
+            this.rejected += count;
+        }
+    }
+
+    /**
+     * Commit the gatherer event.
+     *
+     * @param   stateSize   long
+     */
+    public void finish(final long stateSize) {
+        if (!this.enabled) {
+            return;
+        }
+
+        final GathererEvent event = new GathererEvent();
+
+        if (event.shouldCommit()) {
+            event.gatherer = this.gatherer;
+            event.stateSize = stateSize;
+            event.pushed = this.pushed;
+            event.rejected = this.rejected;
+            event.commit();
+        }
+    }
+}
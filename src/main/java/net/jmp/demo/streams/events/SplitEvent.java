@@ -0,0 +1,77 @@
+package net.jmp.demo.streams.events;
+
+/*
+ * (#)SplitEvent.java   0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event committed each time
+ * the split and consume utilities split off a
+ * new spliterator.
+ */
+@Name("net.jmp.demo.streams.Split")
+@Label("Split")
+@Category({"Streams Demo", "Split And Consume"})
+@Description("A spliterator split by the split and consume utilities")
+@StackTrace(false)
+public final class SplitEvent extends Event {
+    /** The splitting strategy. */
+    @Label("Strategy")
+    public String strategy;
+
+    /** The spliterator class. */
+    @Label("Spliterator")
+    public Class<?> spliterator;
+
+    /** The estimated size retained by the split spliterator. */
+    @Label("Retained Size")
+    public long retainedSize;
+
+    /** The estimated size of the new spliterator. */
+    @Label("Split Size")
+    public long splitSize;
+
+    /** The batch size below which no more splits are made. */
+    @Label("Batch Size")
+    public long batchSize;
+
+    /**
+     * The default constructor.
+     */
+    public SplitEvent() {
+        super();
+    }
+}
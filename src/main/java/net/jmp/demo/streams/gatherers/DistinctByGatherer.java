@@ -1,11 +1,12 @@
 package net.jmp.demo.streams.gatherers;
 
 /*
+ * (#)DistinctByGatherer.java   0.14.0  10/17/2026
  * (#)DistinctByGatherer.java   0.12.0  10/31/2024
  * (#)DistinctByGatherer.java   0.7.0   09/05/2024
  *
  * @author   Jonathan Parker
- * @version  0.12.0
+ * @version  0.14.0
  * @since    0.7.0
  *
  * MIT License
@@ -35,20 +36,22 @@ import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import java.util.stream.Gatherer;
 
+import net.jmp.demo.streams.events.GathererRecorder;
+
 /**
  * This gatherer ensures stream elements are unique based on a selector function.
  * The optional combiner operation is not present in this gatherer.
- * The optional finisher operation is not present in this gatherer.
  *
  * @param   <T> The type of input elements to the gathering operation
  * @param   <A> The potentially mutable state type of the gathering operation
  */
-public final class DistinctByGatherer<T, A> implements Gatherer<T, Set<A>, T> {
+public final class DistinctByGatherer<T, A> implements Gatherer<T, DistinctByGatherer.DistinctByGathererState<A>, T> {
     /** The selector function. */
     private final Function<T, A> selector;
 
@@ -65,11 +68,11 @@ public final class DistinctByGatherer<T, A> implements Gatherer<T, Set<A>, T> {
      * A function that produces an instance of the intermediate
      * state used for this gathering operation.
      *
-     * @return  java.util.function.Supplier&lt;java.util.Set&lt;A&gt;&gt;
+     * @return  java.util.function.Supplier&lt;net.jmp.demo.streams.gatherers.DistinctByGatherer.DistinctByGathererState&lt;A&gt;&gt;
      */
     @Override
-    public Supplier<Set<A>> initializer() {
-        return HashSet::new;
+    public Supplier<DistinctByGathererState<A>> initializer() {
+        return () -> new DistinctByGathererState<>(new GathererRecorder(this.getClass()));
     }
 
     /**
@@ -78,10 +81,10 @@ public final class DistinctByGatherer<T, A> implements Gatherer<T, Set<A>, T> {
      * optionally producing output to the provided
      * downstream type.
      *
-     * @return  java.util.stream.Gatherer.Integrator&lt;java.util.Set&lt;A&gt;, T, T&gt;
+     * @return  java.util.stream.Gatherer.Integrator&lt;net.jmp.demo.streams.gatherers.DistinctByGatherer.DistinctByGathererState&lt;A&gt;, T, T&gt;
      */
     @Override
-    public Integrator<Set<A>, T, T> integrator() {
+    public Integrator<DistinctByGathererState<A>, T, T> integrator() {
         /*
          * Greedy integrators consume all their input,
          * and may only relay that the downstream does
@@ -93,19 +96,60 @@ public final class DistinctByGatherer<T, A> implements Gatherer<T, Set<A>, T> {
         return Integrator.of((state, item, downstream) -> {
             final A selected = this.selector.apply(item);   // Apply the selector function
 
-            if (!state.contains(selected)) {
-                state.add(selected);
+            if (!state.selected.contains(selected)) {
+                state.selected.add(selected);
 
                 if (!downstream.isRejecting()) {
+                    state.recorder.pushed();
+
                     if (!downstream.push(item)) {
                         System.err.println("Failed to push " + item + " downstream");
 
                         return false;   // No subsequent integration is desired
                     }
+                } else {
+                    state.recorder.rejected();
                 }
             }
 
             return true;    // True if subsequent integration is desired
         });
     }
+
+    /**
+     * A function which accepts the final intermediate state and a
+     * downstream object, allowing to perform a final action at the
+     * end of input elements. The lambda is the state (A) and the
+     * result type (R).
+     *
+     * @return  java.util.function.BiConsumer&lt;net.jmp.demo.streams.gatherers.DistinctByGatherer.DistinctByGathererState&lt;A&gt;, java.util.stream.Gatherer.Downstream&gt;
+     */
+    @Override
+    public BiConsumer<DistinctByGathererState<A>, Downstream<? super T>> finisher() {
+        return (state, _) -> state.recorder.finish(state.selected.size());
+    }
+
+    /**
+     * The internal state of the distinct-by gatherer.
+     *
+     * @param   <A> The type of the selected value
+     */
+    static final class DistinctByGathererState<A> {
+        /** The values selected so far. */
+        final Set<A> selected = new HashSet<>();
+
+        /** The recorder for this evaluation. */
+        final GathererRecorder recorder;
+
+        /**
+         * The constructor.
+         *
+         * @param   recorder    net.jmp.demo.streams.events.GathererRecorder
+         */
+        private DistinctByGathererState(final GathererRecorder recorder) {
+            super();
+
+            this.recorder = recorder;
+        }
+    }
 }
@@ -1,11 +1,12 @@
 package net.jmp.demo.streams.gatherers;
 
 /*
+ * (#)FindLastGatherer.java 0.14.0  10/17/2026
  * (#)FindLastGatherer.java 0.12.0  10/31/2024
  * (#)FindLastGatherer.java 0.7.0   09/05/2024
  *
  * @author   Jonathan Parker
- * @version  0.12.0
+ * @version  0.14.0
  * @since    0.7.0
  *
  * MIT License
@@ -39,6 +40,8 @@ import java.util.function.Supplier;
 
 import java.util.stream.Gatherer;
 
+import net.jmp.demo.streams.events.GathererRecorder;
+
 /**
  * This gatherer filters out items based on a predicate function and returns the last.
  * The optional combiner operation is not present in this gatherer.
@@ -107,12 +110,20 @@ public final class FindLastGatherer<T>  implements Gatherer<T, List<T>, T> {
     @Override
     public BiConsumer<List<T>, Downstream<? super T>> finisher () {
         return (state, downstream) -> {
+            final GathererRecorder recorder = new GathererRecorder(this.getClass());
+
             final int count = state.size();
             final T lastItem = state.get(count - 1);
 
             if (!downstream.isRejecting()) {
+                recorder.pushed();
+
                 downstream.push(lastItem);
+            } else {
+                recorder.rejected();
             }
+
+            recorder.finish(count);
         };
     }
 }
@@ -1,11 +1,12 @@
 package net.jmp.demo.streams.gatherers;
 
 /*
+ * (#)MaxByGatherer.java    0.14.0  10/17/2026
  * (#)MaxByGatherer.java    0.12.0  10/31/2024
  * (#)MaxByGatherer.java    0.7.0   09/05/2024
  *
  * @author   Jonathan Parker
- * @version  0.12.0
+ * @version  0.14.0
  * @since    0.7.0
  *
  * MIT License
@@ -40,6 +41,8 @@ import java.util.function.Supplier;
 
 import java.util.stream.Gatherer;
 
+import net.jmp.demo.streams.events.GathererRecorder;
+
 /**
  * This gatherer designed to find the maximum element in a stream based on a selector function.
  *
@@ -157,9 +160,17 @@ public final class MaxByGatherer<T, C extends Comparable<C>> implements Gatherer
     @Override
     public BiConsumer<MaxByGathererState<T>, Downstream<? super T>> finisher () {
         return (state, downstream) -> {
+            final GathererRecorder recorder = new GathererRecorder(this.getClass());
+
             if (!downstream.isRejecting()) {
+                recorder.pushed();
+
                 downstream.push(state.maxElement);
+            } else {
+                recorder.rejected();
             }
+
+            recorder.finish(state.maxElement != null ? 1 : 0);
         };
     }
 
@@ -1,10 +1,11 @@
 package net.jmp.demo.streams.gatherers;
 
 /*
+ * (#)MinByGatherer.java    0.14.0  10/17/2026
  * (#)MinByGatherer.java    0.7.0   09/05/2024
  *
  * @author   Jonathan Parker
- * @version  0.7.0
+ * @version  0.14.0
  * @since    0.7.0
  *
  * MIT License
@@ -39,6 +40,8 @@ import java.util.function.Supplier;
 
 import java.util.stream.Gatherer;
 
+import net.jmp.demo.streams.events.GathererRecorder;
+
 /**
  * This gatherer designed to find the minimum element in a stream based on a selector function.
  *
@@ -156,9 +159,17 @@ public final class MinByGatherer<T, C extends Comparable<C>> implements Gatherer
     @Override
     public BiConsumer<MinByGathererState<T>, Downstream<? super T>> finisher () {
         return (state, downstream) -> {
+            final GathererRecorder recorder = new GathererRecorder(this.getClass());
+
             if (!downstream.isRejecting()) {
+                recorder.pushed();
+
                 downstream.push(state.minElement);
+            } else {
+                recorder.rejected();
             }
+
+            recorder.finish(state.minElement != null ? 1 : 0);
         };
     }
 
@@ -1,10 +1,11 @@
 package net.jmp.demo.streams.gatherers;
 
 /*
+ * (#)ReduceByGatherer.java 0.14.0  10/17/2026
  * (#)ReduceByGatherer.java 0.7.0   09/05/2024
  *
  * @author   Jonathan Parker
- * @version  0.7.0
+ * @version  0.14.0
  * @since    0.7.0
  *
  * MIT License
@@ -40,6 +41,8 @@ import java.util.function.Supplier;
 
 import java.util.stream.Gatherer;
 
+import net.jmp.demo.streams.events.GathererRecorder;
+
 /**
  * This gatherer aggregates elements in a stream based on a selector function.
  * The optional combiner operation is not present in this gatherer.
@@ -112,10 +115,20 @@ public final class ReduceByGatherer<T, A> implements Gatherer<T, Map<A, T>, T> {
     @Override
     public BiConsumer<Map<A, T>, Downstream<? super T>> finisher () {
         return (state, downstream) -> {
+            final GathererRecorder recorder = new GathererRecorder(this.getClass());
+
             if (!downstream.isRejecting()) {
                 state.values()
-                        .forEach(downstream::push);
+                        .forEach(value -> {
+                            recorder.pushed();
+
+                            downstream.push(value);
+                        });
+            } else {
+                recorder.rejected(state.size());
             }
+
+            recorder.finish(state.size());
         };
     }
 }
@@ -0,0 +1,96 @@
+package net.jmp.demo.streams.records;
+
+/*
+ * (#)DatasetSettings.java  0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * A record containing the settings of the synthetic
+ * dataset generator. The same settings always produce
+ * the same data.
+ *
+ * <p>The type skew is the exponent of a Zipf-like
+ * distribution over the dish types, so zero gives
+ * uniform types and larger values favour FISH. The
+ * duplicate ratio is the fraction of elements whose
+ * key repeats an earlier element, the null ratio is
+ * the fraction of money elements that are null, and
+ * the fan-out and depth shape album artists and
+ * offer trees.
+ *
+ * @param   seed            long
+ * @param   typeSkew        double
+ * @param   duplicateRatio  double
+ * @param   nullRatio       double
+ * @param   fanOut          int
+ * @param   depth           int
+ */
+public record DatasetSettings(
+        long seed,
+        double typeSkew,
+        double duplicateRatio,
+        double nullRatio,
+        int fanOut,
+        int depth
+) {
+    /** The default settings. */
+    public static final DatasetSettings DEFAULTS = new DatasetSettings(42L, 0.0, 0.1, 0.0, 2, 2);
+
+    /**
+     * The compact constructor.
+     *
+     * @param   seed            long
+     * @param   typeSkew        double
+     * @param   duplicateRatio  double
+     * @param   nullRatio       double
+     * @param   fanOut          int
+     * @param   depth           int
+     */
+    public DatasetSettings {
+        if (!(typeSkew >= 0.0) || Double.isInfinite(typeSkew)) {
+            throw new IllegalArgumentException("Type skew must be a finite number zero or greater");
+        }
+
+        if (!(duplicateRatio >= 0.0 && duplicateRatio <= 1.0)) {     // Also rejects NaN
+            throw new IllegalArgumentException("Duplicate ratio must be between zero and one");
+        }
+
+        if (!(nullRatio >= 0.0 && nullRatio <= 1.0)) {
+            throw new IllegalArgumentException("Null ratio must be between zero and one");
+        }
+
+        if (fanOut < 1) {
+            throw new IllegalArgumentException("Fan-out must be one or greater");
+        }
+
+        if (depth < 0) {
+            throw new IllegalArgumentException("Depth must be zero or greater");
+        }
+    }
+}
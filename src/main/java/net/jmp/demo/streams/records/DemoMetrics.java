@@ -0,0 +1,65 @@
+package net.jmp.demo.streams.records;
+
+/*
+ * (#)DemoMetrics.java  0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * A record containing the resources used by one
+ * demo. The thread values are for the thread that
+ * ran the demo; the all-threads values add the work
+ * done on other threads, such as the fork-join
+ * workers, while the demo ran. A value of -1 means
+ * the measurement was not taken. The copy is zero
+ * unless several copies of the demo ran at once.
+ *
+ * @param   name                        java.lang.String
+ * @param   copy                        int
+ * @param   iteration                   int
+ * @param   wallNanos                   long
+ * @param   threadCpuNanos              long
+ * @param   allThreadsCpuNanos          long
+ * @param   threadAllocatedBytes        long
+ * @param   allThreadsAllocatedBytes    long
+ * @param   gcCount                     long
+ * @param   gcMillis                    long
+ */
+public record DemoMetrics(
+        String name,
+        int copy,
+        int iteration,
+        long wallNanos,
+        long threadCpuNanos,
+        long allThreadsCpuNanos,
+        long threadAllocatedBytes,
+        long allThreadsAllocatedBytes,
+        long gcCount,
+        long gcMillis
+) {
+}
@@ -0,0 +1,106 @@
+package net.jmp.demo.streams.records;
+
+/*
+ * (#)DemoOptions.java  0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A record containing the demo run options. Empty
+ * demo and method sets select everything. A size of
+ * zero keeps the built-in data and a parallelism of
+ * zero keeps the common pool default. A concurrency
+ * of zero runs the demos one after another; otherwise
+ * that many copies of each run at once. The dataset
+ * settings shape the generated data and the load
+ * settings turn on load mode.
+ *
+ * @param   demos       java.util.Set&lt;java.lang.String&gt;
+ * @param   methods     java.util.Set&lt;java.lang.String&gt;
+ * @param   size        int
+ * @param   parallelism int
+ * @param   iterations  int
+ * @param   parallel    boolean
+ * @param   concurrency int
+ * @param   dataset     net.jmp.demo.streams.records.DatasetSettings
+ * @param   load        net.jmp.demo.streams.records.LoadSettings
+ */
+public record DemoOptions(
+        Set<String> demos,
+        Set<String> methods,
+        int size,
+        int parallelism,
+        int iterations,
+        boolean parallel,
+        int concurrency,
+        DatasetSettings dataset,
+        LoadSettings load
+) {
+    /** The default options: every demo once, sequentially, on the built-in data. */
+    public static final DemoOptions DEFAULTS = new DemoOptions(Set.of(), Set.of(), 0, 0, 1, false, 0, DatasetSettings.DEFAULTS, LoadSettings.DEFAULTS);
+
+    /**
+     * The compact constructor.
+     *
+     * @param   demos       java.util.Set&lt;java.lang.String&gt;
+     * @param   methods     java.util.Set&lt;java.lang.String&gt;
+     * @param   size        int
+     * @param   parallelism int
+     * @param   iterations  int
+     * @param   parallel    boolean
+     * @param   concurrency int
+     * @param   dataset     net.jmp.demo.streams.records.DatasetSettings
+     * @param   load        net.jmp.demo.streams.records.LoadSettings
+     */
+    public DemoOptions {
+        demos = Set.copyOf(Objects.requireNonNull(demos, () -> "Set<String> demos is null"));
+        methods = Set.copyOf(Objects.requireNonNull(methods, () -> "Set<String> methods is null"));
+
+        Objects.requireNonNull(dataset, () -> "DatasetSettings dataset is null");
+        Objects.requireNonNull(load, () -> "LoadSettings load is null");
+
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must be zero or greater");
+        }
+
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("Parallelism must be zero or greater");
+        }
+
+        if (iterations < 1) {
+            throw new IllegalArgumentException("Iterations must be one or greater");
+        }
+
+        if (concurrency < 0) {
+            throw new IllegalArgumentException("Concurrency must be zero or greater");
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package net.jmp.demo.streams.records;
+
+/*
+ * (#)LoadResult.java   0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * A record containing the latency percentiles and
+ * throughput of one workload, or of all workloads,
+ * in load mode. Latencies are in nanoseconds.
+ *
+ * @param   name            java.lang.String
+ * @param   operations      long
+ * @param   errors          long
+ * @param   elapsedNanos    long
+ * @param   p50             long
+ * @param   p90             long
+ * @param   p99             long
+ * @param   p999            long
+ * @param   max             long
+ */
+public record LoadResult(
+        String name,
+        long operations,
+        long errors,
+        long elapsedNanos,
+        long p50,
+        long p90,
+        long p99,
+        long p999,
+        long max
+) {
+    /**
+     * Return the operations per second.
+     *
+     * @return  double
+     */
+    public double throughput() {
+        return this.elapsedNanos == 0 ? 0.0 : this.operations * 1_000_000_000.0 / this.elapsedNanos;
+    }
+}
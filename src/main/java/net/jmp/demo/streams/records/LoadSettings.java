@@ -0,0 +1,74 @@
+package net.jmp.demo.streams.records;
+
+/*
+ * (#)LoadSettings.java 0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * A record containing the load mode settings. A duration
+ * of zero turns load mode off. With a rate the load is
+ * open-loop: operations start on a fixed schedule and
+ * their latency is measured from the scheduled start,
+ * so queueing behind a slow operation is not hidden.
+ * Without a rate the load is closed-loop: each worker
+ * starts its next operation when the last one ends.
+ *
+ * @param   duration    int
+ * @param   rate        int
+ * @param   workers     int
+ */
+public record LoadSettings(
+        int duration,
+        int rate,
+        int workers
+) {
+    /** The default settings: load mode off. */
+    public static final LoadSettings DEFAULTS = new LoadSettings(0, 0, 1);
+
+    /**
+     * The compact constructor.
+     *
+     * @param   duration    int
+     * @param   rate        int
+     * @param   workers     int
+     */
+    public LoadSettings {
+        if (duration < 0) {
+            throw new IllegalArgumentException("Duration must be zero or greater");
+        }
+
+        if (rate < 0) {
+            throw new IllegalArgumentException("Rate must be zero or greater");
+        }
+
+        if (workers < 1) {
+            throw new IllegalArgumentException("Workers must be one or greater");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package net.jmp.demo.streams.records;
+
+/*
+ * (#)SplitMetrics.java 0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * A record containing the telemetry of one split of
+ * a spliterator: how deep in the split tree it was,
+ * the worker thread that traversed it, the elements
+ * it yielded, how long it waited between being split
+ * off and its first traversal, and how long the
+ * traversal took. Times are System.nanoTime() values
+ * or differences between them.
+ *
+ * @param   depth           int
+ * @param   thread          java.lang.String
+ * @param   elements        long
+ * @param   queuedNanos     long
+ * @param   processingNanos long
+ * @param   startNanos      long
+ * @param   endNanos        long
+ */
+public record SplitMetrics(
+        int depth,
+        String thread,
+        long elements,
+        long queuedNanos,
+        long processingNanos,
+        long startNanos,
+        long endNanos
+) {
+}
@@ -0,0 +1,78 @@
+package net.jmp.demo.streams.records;
+
+/*
+ * (#)WordCount.java    0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * A record containing the number of words in a range
+ * of text and whether the range begins and ends with
+ * white space. A word is counted in the range it begins
+ * in, so the counts of adjacent ranges are combined by
+ * adding them and then taking one away when a word
+ * straddles the boundary between them.
+ *
+ * @param   length          long
+ * @param   words           long
+ * @param   leadingSpace    boolean
+ * @param   trailingSpace   boolean
+ */
+public record WordCount(
+        long length,
+        long words,
+        boolean leadingSpace,
+        boolean trailingSpace
+) {
+    /** The count of an empty range. */
+    public static final WordCount EMPTY = new WordCount(0, 0, false, false);
+
+    /**
+     * Combine this count with the count of
+     * the range that immediately follows it.
+     *
+     * @param   next    net.jmp.demo.streams.records.WordCount
+     * @return          net.jmp.demo.streams.records.WordCount
+     */
+    public WordCount combine(final WordCount next) {
+        if (this.length == 0) {
+            return next;
+        }
+
+        if (next.length == 0) {
+            return this;
+        }
+
+        final boolean straddles = !this.trailingSpace && !next.leadingSpace;
+
+        return new WordCount(this.length + next.length,
+                this.words + next.words - (straddles ? 1 : 0),
+                this.leadingSpace,
+                next.trailingSpace);
+    }
+}
@@ -0,0 +1,269 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)BatchingSpliterator.java  0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+import java.util.function.Consumer;
+
+import net.jmp.demo.streams.events.TrySplitEvent;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A spliterator adapter for sources that split badly or
+ * not at all, such as Stream.iterate(), Stream.generate(),
+ * iterators and queues, whose size is often unknown.
+ * Each trySplit() pulls the next batch of elements from
+ * the source into an array and returns it as a SIZED
+ * array spliterator, while this spliterator keeps the
+ * rest of the source. Batches start at the initial size
+ * and grow by the growth factor up to the maximum size,
+ * so short sources still split and long ones are not
+ * split into more tasks than they need. Only the batches
+ * handed out are ever held in memory.
+ *
+ * @param   <T> The type of element
+ */
+public final class BatchingSpliterator<T> implements Spliterator<T> {
+    /** The default initial batch size. */
+    public static final int DEFAULT_INITIAL_SIZE = 1 << 10;
+
+    /** The default maximum batch size. */
+    public static final int DEFAULT_MAXIMUM_SIZE = 1 << 20;
+
+    /** The default growth factor. */
+    public static final double DEFAULT_GROWTH_FACTOR = 2.0;
+
+    /** The characteristics that a batch keeps from the source. */
+    private static final int BATCH_CHARACTERISTICS = ORDERED | DISTINCT | NONNULL | IMMUTABLE | CONCURRENT;
+
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The source spliterator. */
+    private final Spliterator<T> source;
+
+    /** The maximum batch size. */
+    private final int maximumSize;
+
+    /** The growth factor. */
+    private final double growthFactor;
+
+    /** The size of the next batch. */
+    private int batchSize;
+
+    /**
+     * A constructor that uses the default sizes and growth factor.
+     *
+     * @param   source  java.util.Spliterator&lt;T&gt;
+     */
+    public BatchingSpliterator(final Spliterator<T> source) {
+        this(source, DEFAULT_INITIAL_SIZE, DEFAULT_MAXIMUM_SIZE, DEFAULT_GROWTH_FACTOR);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param   source          java.util.Spliterator&lt;T&gt;
+     * @param   initialSize     int
+     * @param   maximumSize     int
+     * @param   growthFactor    double
+     * @throws  java.lang.IllegalArgumentException  When a size is less than one, the maximum is less than the initial size, or the growth factor is less than one
+     */
+    public BatchingSpliterator(final Spliterator<T> source,
+                               final int initialSize,
+                               final int maximumSize,
+                               final double growthFactor) {
+        super();
+
+        if (initialSize < 1) {
+            throw new IllegalArgumentException("Initial size must be one or greater");
+        }
+
+        if (maximumSize < initialSize) {
+            throw new IllegalArgumentException("Maximum size must not be less than the initial size");
+        }
+
+        if (!(growthFactor >= 1.0)) {
+            throw new IllegalArgumentException("Growth factor must be one or greater");
+        }
+
+        this.source = Objects.requireNonNull(source, () -> "Spliterator<T> source is null");
+        this.batchSize = initialSize;
+        this.maximumSize = maximumSize;
+        this.growthFactor = growthFactor;
+    }
+
+    /**
+     * If a remaining element exists, performs the given action on it,
+     * returning true; else returns false.
+     *
+     * @param   action  java.util.function.Consumer&lt;? super T&gt;
+     * @return          boolean
+     */
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        return this.source.tryAdvance(action);
+    }
+
+    /**
+     * Performs the given action for each remaining element,
+     * sequentially in the current thread, until all elements
+     * have been processed.
+     *
+     * @param   action  java.util.function.Consumer&lt;? super T&gt;
+     */
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        this.source.forEachRemaining(action);
+    }
+
+    /**
+     * Pull the next batch of elements from the source and
+     * return it as a SIZED array spliterator, or return
+     * null if the source is exhausted.
+     *
+     * @return  java.util.Spliterator&lt;T&gt;
+     */
+    @Override
+    public Spliterator<T> trySplit() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final TrySplitEvent event = new TrySplitEvent();
+
+        event.begin();
+
+        final long size = this.estimateSize();
+        final Object[] batch = new Object[this.batchSize];
+        final Batch holder = new Batch(batch);
+
+        while (holder.count < batch.length && this.source.tryAdvance(holder)) { }
+
+        Spliterator<T> spliterator = null;
+
+        if (holder.count > 0) {
+            spliterator = Spliterators.spliterator(batch, 0, holder.count, this.source.characteristics() & BATCH_CHARACTERISTICS);
+
+            this.logger.debug("Batch size: {}", holder.count);
+
+            this.batchSize = (int) Math.min(this.maximumSize, Math.ceil(this.batchSize * this.growthFactor));
+        }
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.spliterator = this.getClass();
+            event.split = spliterator != null;
+            event.size = size;
+            event.retainedSize = this.estimateSize();
+            event.splitSize = spliterator != null ? spliterator.estimateSize() : 0;
+            event.commit();
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(spliterator));
+        }
+
+        return spliterator;
+    }
+
+    /**
+     * Returns the source's estimate of the number of elements
+     * remaining, which is Long.MAX_VALUE when it is unknown.
+     *
+     * @return  long
+     */
+    @Override
+    public long estimateSize() {
+        return this.source.estimateSize();
+    }
+
+    /**
+     * Returns the characteristics of the source
+     * spliterator less SORTED, which the batches
+     * do not keep.
+     *
+     * @return  int
+     */
+    @Override
+    public int characteristics() {
+        return this.source.characteristics() & ~SORTED;
+    }
+
+    /**
+     * Return the size of the next batch.
+     *
+     * @return  int
+     */
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * The consumer that fills a batch.
+     */
+    private static final class Batch implements Consumer<Object> {
+        /** The batch array. */
+        private final Object[] elements;
+
+        /** The number of elements in the batch. */
+        private int count;
+
+        /**
+         * The constructor.
+         *
+         * @param   elements    java.lang.Object[]
+         */
+        private Batch(final Object[] elements) {
+            super();
+
+            this.elements = elements;
+        }
+
+        /**
+         * Add the element to the batch.
+         *
+         * @param   element java.lang.Object
+         */
+        @Override
+        public void accept(final Object element) {
+            this.elements[this.count++] = element;
+        }
+    }
+}
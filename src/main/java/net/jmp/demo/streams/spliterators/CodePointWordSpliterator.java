@@ -0,0 +1,229 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)CodePointWordSpliterator.java 0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+import java.util.Spliterator;
+
+import java.util.function.IntConsumer;
+
+import net.jmp.demo.streams.events.TrySplitEvent;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A word spliterator over the code points of a character
+ * sequence, which must not change while it is traversed.
+ * Code points are passed as primitive ints so that no
+ * Character objects are created, and a surrogate pair
+ * is always passed as one supplementary code point.
+ * Like the word spliterator it only splits at white
+ * space, which never falls inside a surrogate pair.
+ * Splits share the sequence and cover an [origin, fence)
+ * range of its char indexes.
+ */
+public final class CodePointWordSpliterator implements Spliterator.OfInt {
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The characters of the words. */
+    private final CharSequence characters;
+
+    /** The char index of the current code point. */
+    private int currentPosition;
+
+    /** One past the last char index covered. */
+    private final int fence;
+
+    /**
+     * The constructor.
+     *
+     * @param   characters  java.lang.CharSequence
+     */
+    public CodePointWordSpliterator(final CharSequence characters) {
+        this(Objects.requireNonNull(characters), 0, characters.length());
+    }
+
+    /**
+     * The constructor used by trySplit().
+     *
+     * @param   characters  java.lang.CharSequence
+     * @param   origin      int
+     * @param   fence       int
+     */
+    private CodePointWordSpliterator(final CharSequence characters, final int origin, final int fence) {
+        super();
+
+        this.characters = characters;
+        this.currentPosition = origin;
+        this.fence = fence;
+    }
+
+    /**
+     * If a remaining code point exists: performs the given
+     * action on it, returning true; else returns false.
+     *
+     * @param   action  java.util.function.IntConsumer
+     * @return          boolean
+     */
+    @Override
+    public boolean tryAdvance(final IntConsumer action) {
+        Objects.requireNonNull(action);
+
+        if (this.currentPosition < this.fence) {
+            final int codePoint = Character.codePointAt(this.characters, this.currentPosition);
+
+            this.currentPosition += Character.charCount(codePoint);
+
+            action.accept(codePoint);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Performs the given action for each remaining code point,
+     * sequentially in the current thread, until all code points
+     * have been processed.
+     *
+     * @param   action  java.util.function.IntConsumer
+     */
+    @Override
+    public void forEachRemaining(final IntConsumer action) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(action));
+        }
+
+        Objects.requireNonNull(action);
+
+        final CharSequence sequence = this.characters;
+        final int end = this.fence;
+
+        int position = this.currentPosition;
+
+        this.currentPosition = end;
+
+        while (position < end) {
+            final int codePoint = Character.codePointAt(sequence, position);
+
+            position += Character.charCount(codePoint);
+
+            action.accept(codePoint);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /**
+     * If this spliterator can be partitioned, returns a Spliterator
+     * covering elements, that will, upon return from this method,
+     * not be covered by this Spliterator.
+     *
+     * @return  net.jmp.demo.streams.spliterators.CodePointWordSpliterator
+     */
+    @Override
+    public CodePointWordSpliterator trySplit() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final TrySplitEvent event = new TrySplitEvent();
+
+        event.begin();
+
+        final int currentSize = this.fence - this.currentPosition;
+
+        CodePointWordSpliterator spliterator = null;
+
+        if (currentSize >= 2) {
+            for (int splitPos = (currentSize / 2) + this.currentPosition; splitPos < this.fence; splitPos++) {
+                // White space is a word boundary and is never part of a surrogate pair
+
+                if (Character.isWhitespace(this.characters.charAt(splitPos))) {
+                    spliterator = new CodePointWordSpliterator(this.characters, this.currentPosition, splitPos);
+
+                    this.currentPosition = splitPos;
+
+                    break;
+                }
+            }
+        }
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.spliterator = this.getClass();
+            event.split = spliterator != null;
+            event.size = currentSize;
+            event.retainedSize = this.estimateSize();
+            event.splitSize = spliterator != null ? spliterator.estimateSize() : 0;
+            event.commit();
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(spliterator));
+        }
+
+        return spliterator;
+    }
+
+    /**
+     * Returns an estimate of the number of code points that would be
+     * encountered by a forEachRemaining(java.util.function.IntConsumer)
+     * traversal. This is the number of chars remaining, which is more
+     * than the number of code points when there are surrogate pairs.
+     *
+     * @return  long
+     */
+    @Override
+    public long estimateSize() {
+        return this.fence - this.currentPosition;
+    }
+
+    /**
+     * Returns a set of characteristics of this Spliterator and its elements.
+     * The spliterator is not sized because the size is counted in chars.
+     * Only a string is immutable.
+     *
+     * @return  int
+     */
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | (this.characters instanceof String ? IMMUTABLE : 0);
+    }
+}
@@ -0,0 +1,285 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)ConcatSpliterator.java    0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+
+import java.util.function.Consumer;
+
+import net.jmp.demo.streams.events.TrySplitEvent;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A spliterator over the elements of any number of child
+ * spliterators, one after another. Unlike nesting calls
+ * to Stream.concat(), which builds a tree as deep as the
+ * number of streams, the children are held in one flat
+ * array and each split covers a range of it. trySplit()
+ * divides the range where the cumulative estimated sizes
+ * are closest to half, and a range of one child is split
+ * by the child itself. The spliterator is SIZED when every
+ * child is SIZED and the total does not overflow.
+ *
+ * @param   <T> The type of element
+ */
+public final class ConcatSpliterator<T> implements Spliterator<T> {
+    /** The characteristics kept when every child reports them. */
+    private static final int COMMON = ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE | CONCURRENT;
+
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The child spliterators, shared by the splits. */
+    private final Spliterator<? extends T>[] children;
+
+    /** The index of the current child. */
+    private int from;
+
+    /** The index after the last child. */
+    private final int to;
+
+    /** The characteristics. */
+    private final int characteristics;
+
+    /**
+     * The constructor.
+     *
+     * @param   children    java.util.List&lt;? extends java.util.Spliterator&lt;? extends T&gt;&gt;
+     */
+    @SuppressWarnings("unchecked")
+    public ConcatSpliterator(final List<? extends Spliterator<? extends T>> children) {
+        this(Objects.requireNonNull(children, () -> "List<? extends Spliterator<? extends T>> children is null")
+                .toArray(new Spliterator[0]), 0, children.size());
+    }
+
+    /**
+     * The constructor used by trySplit().
+     *
+     * @param   children    java.util.Spliterator&lt;? extends T&gt;[]
+     * @param   from        int
+     * @param   to          int
+     */
+    private ConcatSpliterator(final Spliterator<? extends T>[] children, final int from, final int to) {
+        super();
+
+        this.children = children;
+        this.from = from;
+        this.to = to;
+
+        int common = from == to ? ORDERED | SIZED | SUBSIZED : COMMON;
+        long total = 0;
+
+        for (int i = from; i < to; i++) {
+            final Spliterator<? extends T> child = Objects.requireNonNull(children[i], () -> "Spliterator<? extends T> child is null");
+
+            common &= child.characteristics();
+            total += child.estimateSize();
+
+            if (total < 0) {
+                common &= ~(SIZED | SUBSIZED);      // The total overflowed
+                total = Long.MAX_VALUE;
+            }
+        }
+
+        this.characteristics = common;
+    }
+
+    /**
+     * If a remaining element exists, performs the given action
+     * on it, returning true; else returns false.
+     *
+     * @param   action  java.util.function.Consumer&lt;? super T&gt;
+     * @return          boolean
+     */
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+
+        while (this.from < this.to) {
+            if (this.children[this.from].tryAdvance(action)) {
+                return true;
+            }
+
+            this.children[this.from++] = null;      // Let the exhausted child be collected
+        }
+
+        return false;
+    }
+
+    /**
+     * Performs the given action for each remaining element.
+     *
+     * @param   action  java.util.function.Consumer&lt;? super T&gt;
+     */
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        Objects.requireNonNull(action);
+
+        while (this.from < this.to) {
+            this.children[this.from].forEachRemaining(action);
+            this.children[this.from++] = null;
+        }
+    }
+
+    /**
+     * If this spliterator can be partitioned, returns a Spliterator
+     * covering elements, that will, upon return from this method,
+     * not be covered by this Spliterator.
+     *
+     * @return  java.util.Spliterator&lt;T&gt;
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Spliterator<T> trySplit() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final TrySplitEvent event = new TrySplitEvent();
+
+        event.begin();
+
+        final long size = this.estimateSize();
+
+        Spliterator<T> spliterator = null;
+
+        if (this.to - this.from > 1) {
+            final int splitIndex = this.splitIndex();
+
+            spliterator = new ConcatSpliterator<>(this.children, this.from, splitIndex);
+
+            this.from = splitIndex;
+        } else if (this.from < this.to) {
+            spliterator = (Spliterator<T>) this.children[this.from].trySplit();
+        }
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.spliterator = this.getClass();
+            event.split = spliterator != null;
+            event.size = size;
+            event.retainedSize = this.estimateSize();
+            event.splitSize = spliterator != null ? spliterator.estimateSize() : 0;
+            event.commit();
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(spliterator));
+        }
+
+        return spliterator;
+    }
+
+    /**
+     * Returns the index of the first child after the split.
+     * Whole children are moved to the prefix while doing so
+     * brings its cumulative estimated size closer to half
+     * of the total. When any child's size is unknown, the
+     * children are divided by count instead.
+     *
+     * @return  int
+     */
+    private int splitIndex() {
+        final long[] sizes = new long[this.to - this.from];
+
+        long total = 0;
+
+        for (int i = 0; i < sizes.length; i++) {
+            sizes[i] = this.children[this.from + i].estimateSize();
+            total += sizes[i];
+
+            if (sizes[i] == Long.MAX_VALUE || total < 0) {
+                return this.from + sizes.length / 2;
+            }
+        }
+
+        long prefix = sizes[0];
+        int index = 1;
+
+        while (index < sizes.length - 1) {
+            final long next = prefix + sizes[index];
+
+            if (Math.abs(next - (total - next)) >= Math.abs(prefix - (total - prefix))) {
+                break;
+            }
+
+            prefix = next;
+            index++;
+        }
+
+        return this.from + index;
+    }
+
+    /**
+     * Returns the sum of the children's estimated
+     * sizes, or Long.MAX_VALUE if it overflows.
+     *
+     * @return  long
+     */
+    @Override
+    public long estimateSize() {
+        long total = 0;
+
+        for (int i = this.from; i < this.to; i++) {
+            total += this.children[i].estimateSize();
+
+            if (total < 0) {
+                return Long.MAX_VALUE;
+            }
+        }
+
+        return total;
+    }
+
+    /**
+     * Returns a set of characteristics of this Spliterator and its elements.
+     * A range of one child reports the child's current characteristics,
+     * since splitting a child that is SIZED but not SUBSIZED leaves it,
+     * and so this spliterator, no longer SIZED.
+     *
+     * @return  int
+     */
+    @Override
+    public int characteristics() {
+        if (this.to - this.from == 1) {
+            return this.children[this.from].characteristics() & COMMON;
+        }
+
+        return this.characteristics;
+    }
+}
@@ -0,0 +1,327 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)FlatteningSpliterator.java    0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import net.jmp.demo.streams.events.TrySplitEvent;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A spliterator that flattens a list of outer elements,
+ * each with a list of inner elements, such as albums and
+ * their artists, passing the result of a mapper applied
+ * to each outer and inner element pair. The running totals
+ * of the inner list sizes are taken once at construction
+ * and shared by every split, so the spliterator is SIZED
+ * and SUBSIZED, and trySplit() cuts at the middle inner
+ * element, whether that falls between two outer elements
+ * or inside one large inner list. The inner lists must
+ * not change once the spliterator is constructed.
+ *
+ * @param   <O> The type of outer element
+ * @param   <I> The type of inner element
+ * @param   <R> The type of element passed to the action
+ */
+public final class FlatteningSpliterator<O, I, R> implements Spliterator<R> {
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The outer elements. */
+    private final List<O> outers;
+
+    /** The function returning the inner list of an outer element. */
+    private final Function<? super O, ? extends List<? extends I>> inner;
+
+    /** The function mapping an outer and inner element pair to the element passed. */
+    private final BiFunction<? super O, ? super I, ? extends R> mapper;
+
+    /** The position of the first inner element of each outer element, and then the total. */
+    private final long[] offsets;
+
+    /** The position of the next inner element over all of the inner lists. */
+    private long position;
+
+    /** One past the last position covered. */
+    private final long fence;
+
+    /** The index of the current outer element. */
+    private int outerIndex;
+
+    /** The index of the next inner element in the current inner list. */
+    private int innerIndex;
+
+    /** The current inner list, or null until it is needed. */
+    private List<? extends I> innerList;
+
+    /**
+     * The constructor.
+     *
+     * @param   outers  java.util.List&lt;O&gt;
+     * @param   inner   java.util.function.Function&lt;? super O, ? extends java.util.List&lt;? extends I&gt;&gt;
+     * @param   mapper  java.util.function.BiFunction&lt;? super O, ? super I, ? extends R&gt;
+     */
+    public FlatteningSpliterator(final List<O> outers,
+                                 final Function<? super O, ? extends List<? extends I>> inner,
+                                 final BiFunction<? super O, ? super I, ? extends R> mapper) {
+        super();
+
+        Objects.requireNonNull(outers, () -> "List<O> outers is null");
+
+        this.outers = outers instanceof RandomAccess ? outers : new ArrayList<>(outers);
+        this.inner = Objects.requireNonNull(inner, () -> "Function<O, List<I>> inner is null");
+        this.mapper = Objects.requireNonNull(mapper, () -> "BiFunction<O, I, R> mapper is null");
+        this.offsets = new long[this.outers.size() + 1];
+
+        for (int i = 0; i < this.outers.size(); i++) {
+            this.offsets[i + 1] = this.offsets[i] + inner.apply(this.outers.get(i)).size();
+        }
+
+        this.fence = this.offsets[this.outers.size()];
+
+        this.logger.debug("Outer elements: {}; inner elements: {}", this.outers.size(), this.fence);
+    }
+
+    /**
+     * The constructor used by trySplit().
+     *
+     * @param   spliterator net.jmp.demo.streams.spliterators.FlatteningSpliterator&lt;O, I, R&gt;
+     * @param   fence       long
+     */
+    private FlatteningSpliterator(final FlatteningSpliterator<O, I, R> spliterator, final long fence) {
+        super();
+
+        this.outers = spliterator.outers;
+        this.inner = spliterator.inner;
+        this.mapper = spliterator.mapper;
+        this.offsets = spliterator.offsets;
+        this.position = spliterator.position;
+        this.fence = fence;
+        this.outerIndex = spliterator.outerIndex;
+        this.innerIndex = spliterator.innerIndex;
+        this.innerList = spliterator.innerList;
+    }
+
+    /**
+     * Return a spliterator that flattens a list of lists.
+     *
+     * @param   <E>     The type of inner element
+     * @param   lists   java.util.List&lt;? extends java.util.List&lt;? extends E&gt;&gt;
+     * @return          net.jmp.demo.streams.spliterators.FlatteningSpliterator&lt;java.util.List&lt;? extends E&gt;, E, E&gt;
+     */
+    public static <E> FlatteningSpliterator<List<? extends E>, E, E> ofLists(final List<? extends List<? extends E>> lists) {
+        return new FlatteningSpliterator<>(List.copyOf(lists), Function.identity(), (list, element) -> element);
+    }
+
+    /**
+     * If a remaining element exists, performs the given action on it,
+     * returning true; else returns false.
+     *
+     * @param   action  java.util.function.Consumer&lt;? super R&gt;
+     * @return          boolean
+     */
+    @Override
+    public boolean tryAdvance(final Consumer<? super R> action) {
+        Objects.requireNonNull(action);
+
+        if (this.position < this.fence) {
+            this.seekInnerList();
+
+            action.accept(this.mapper.apply(this.outers.get(this.outerIndex), this.innerList.get(this.innerIndex++)));
+
+            this.position++;
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Performs the given action for each remaining element,
+     * sequentially in the current thread, until all elements
+     * have been processed. Each inner list is walked in one
+     * loop and the position is updated once per inner list.
+     *
+     * @param   action  java.util.function.Consumer&lt;? super R&gt;
+     */
+    @Override
+    public void forEachRemaining(final Consumer<? super R> action) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(action));
+        }
+
+        Objects.requireNonNull(action);
+
+        while (this.position < this.fence) {
+            this.seekInnerList();
+
+            final O outer = this.outers.get(this.outerIndex);
+            final List<? extends I> elements = this.innerList;
+            final int origin = this.innerIndex;
+            final int end = (int) Math.min(elements.size(), origin + (this.fence - this.position));
+
+            for (int index = origin; index < end; index++) {
+                action.accept(this.mapper.apply(outer, elements.get(index)));
+            }
+
+            this.innerIndex = end;
+            this.position += end - origin;
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /**
+     * If this spliterator can be partitioned, returns a Spliterator
+     * covering elements, that will, upon return from this method,
+     * not be covered by this Spliterator.
+     *
+     * @return  net.jmp.demo.streams.spliterators.FlatteningSpliterator&lt;O, I, R&gt;
+     */
+    @Override
+    public FlatteningSpliterator<O, I, R> trySplit() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final TrySplitEvent event = new TrySplitEvent();
+
+        event.begin();
+
+        final long size = this.fence - this.position;
+
+        FlatteningSpliterator<O, I, R> spliterator = null;
+
+        if (size >= 2) {
+            final long middle = this.position + size / 2;
+
+            spliterator = new FlatteningSpliterator<>(this, middle);
+
+            this.moveTo(middle);
+        }
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.spliterator = this.getClass();
+            event.split = spliterator != null;
+            event.size = size;
+            event.retainedSize = this.estimateSize();
+            event.splitSize = spliterator != null ? spliterator.estimateSize() : 0;
+            event.commit();
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(spliterator));
+        }
+
+        return spliterator;
+    }
+
+    /**
+     * Returns the exact number of elements remaining.
+     *
+     * @return  long
+     */
+    @Override
+    public long estimateSize() {
+        return this.fence - this.position;
+    }
+
+    /**
+     * Returns a set of characteristics of this Spliterator and its elements.
+     *
+     * @return  int
+     */
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED;
+    }
+
+    /**
+     * Make the inner list that holds the element at the
+     * position current, skipping any exhausted or empty
+     * inner lists.
+     */
+    private void seekInnerList() {
+        while (this.position >= this.offsets[this.outerIndex + 1]) {
+            this.outerIndex++;
+            this.innerIndex = 0;
+            this.innerList = null;
+        }
+
+        if (this.innerList == null) {
+            this.innerList = this.inner.apply(this.outers.get(this.outerIndex));
+        }
+    }
+
+    /**
+     * Move to the position, finding its outer element
+     * by a binary search of the running totals.
+     *
+     * @param   target  long
+     */
+    private void moveTo(final long target) {
+        int index = Arrays.binarySearch(this.offsets, this.outerIndex, this.offsets.length, target);
+
+        if (index < 0) {
+            index = -index - 2;     // The last outer element that begins before the target
+        } else {
+            while (index + 1 < this.offsets.length && this.offsets[index + 1] == target) {
+                index++;    // Skip to the last of several outer elements that begin at the target
+            }
+        }
+
+        if (index != this.outerIndex) {
+            this.outerIndex = index;
+            this.innerList = null;
+        }
+
+        this.innerIndex = (int) (target - this.offsets[index]);
+        this.position = target;
+    }
+}
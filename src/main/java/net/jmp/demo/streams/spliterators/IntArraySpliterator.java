@@ -0,0 +1,207 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)IntArraySpliterator.java  0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Objects;
+import java.util.Spliterator;
+
+import java.util.function.IntConsumer;
+
+import net.jmp.demo.streams.events.TrySplitEvent;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An int array spliterator. Elements are passed as
+ * primitives so that splitting and consuming ints
+ * allocates no Integer objects. Splits share the array
+ * and cover an [origin, fence) range of its indexes.
+ */
+public final class IntArraySpliterator implements Spliterator.OfInt {
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The array of elements. */
+    private final int[] array;
+
+    /** The current index. */
+    private int currentIndex;
+
+    /** One past the last index covered. */
+    private final int fence;
+
+    /**
+     * The constructor.
+     *
+     * @param   array   int[]
+     */
+    public IntArraySpliterator(final int[] array) {
+        this(Objects.requireNonNull(array), 0, array.length);
+    }
+
+    /**
+     * The constructor used by trySplit().
+     *
+     * @param   array   int[]
+     * @param   origin  int
+     * @param   fence   int
+     */
+    private IntArraySpliterator(final int[] array, final int origin, final int fence) {
+        super();
+
+        this.array = array;
+        this.currentIndex = origin;
+        this.fence = fence;
+    }
+
+    /**
+     * If a remaining element exists: performs the given action on it,
+     * returning true; else returns false.
+     *
+     * @param   action  java.util.function.IntConsumer
+     * @return          boolean
+     */
+    @Override
+    public boolean tryAdvance(final IntConsumer action) {
+        Objects.requireNonNull(action);
+
+        if (this.currentIndex < this.fence) {
+            action.accept(this.array[this.currentIndex++]);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Performs the given action for each remaining element,
+     * sequentially in the current thread, until all elements
+     * have been processed. The index is updated once
+     * rather than per element.
+     *
+     * @param   action  java.util.function.IntConsumer
+     */
+    @Override
+    public void forEachRemaining(final IntConsumer action) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(action));
+        }
+
+        Objects.requireNonNull(action);
+
+        final int[] elements = this.array;
+        final int origin = this.currentIndex;
+        final int end = this.fence;
+
+        this.currentIndex = end;
+
+        for (int index = origin; index < end; index++) {
+            action.accept(elements[index]);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /**
+     * If this spliterator can be partitioned, returns a Spliterator
+     * covering elements, that will, upon return from this method,
+     * not be covered by this Spliterator.
+     *
+     * @return  net.jmp.demo.streams.spliterators.IntArraySpliterator
+     */
+    @Override
+    public IntArraySpliterator trySplit() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final TrySplitEvent event = new TrySplitEvent();
+
+        event.begin();
+
+        final int currentSize = this.fence - this.currentIndex;
+
+        IntArraySpliterator spliterator = null;
+
+        if (currentSize >= 2) {
+            final int splitIndex = this.currentIndex + currentSize / 2;
+
+            spliterator = new IntArraySpliterator(this.array, this.currentIndex, splitIndex);
+
+            this.currentIndex = splitIndex;
+        }
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.spliterator = this.getClass();
+            event.split = spliterator != null;
+            event.size = currentSize;
+            event.retainedSize = this.estimateSize();
+            event.splitSize = spliterator != null ? spliterator.estimateSize() : 0;
+            event.commit();
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(spliterator));
+        }
+
+        return spliterator;
+    }
+
+    /**
+     * Returns an estimate of the number of elements that would be encountered
+     * by a forEachRemaining(java.util.function.IntConsumer) traversal,
+     * or returns Long.MAX_VALUE if infinite, unknown, or too expensive to compute.
+     *
+     * @return  long
+     */
+    @Override
+    public long estimateSize() {
+        return (this.fence - this.currentIndex);
+    }
+
+    /**
+     * Returns a set of characteristics of this Spliterator and its elements.
+     *
+     * @return  int
+     */
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+}
@@ -0,0 +1,255 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)IntChunkSpliterator.java  0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Spliterator;
+
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import net.jmp.demo.streams.events.TrySplitEvent;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A spliterator adapter that passes the ints of its source
+ * to the action in int arrays of the chunk size, so neither
+ * the ints are boxed nor the action called per element.
+ * When the source and the prefix it splits off are both
+ * SIZED, as they always are for a SUBSIZED source,
+ * trySplit() keeps the split on a chunk boundary by moving
+ * the few ints that complete the last chunk of the prefix
+ * from the front of this spliterator, its source and then
+ * its tail, to the end of the prefix. Every chunk but the
+ * very last is then full. Otherwise the last chunk of each
+ * split may be shorter.
+ */
+public final class IntChunkSpliterator implements Spliterator<int[]> {
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The source spliterator. */
+    private final Spliterator.OfInt source;
+
+    /** The chunk size. */
+    private final int chunkSize;
+
+    /** The ints that follow the source, or null. */
+    private final int[] tail;
+
+    /** The index of the next int of the tail. */
+    private int tailIndex;
+
+    /**
+     * The constructor.
+     *
+     * @param   source      java.util.Spliterator.OfInt
+     * @param   chunkSize   int
+     * @throws  java.lang.IllegalArgumentException  When the chunk size is less than one
+     */
+    public IntChunkSpliterator(final Spliterator.OfInt source, final int chunkSize) {
+        this(source, chunkSize, null);
+
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be one or greater");
+        }
+    }
+
+    /**
+     * The constructor used by trySplit().
+     *
+     * @param   source      java.util.Spliterator.OfInt
+     * @param   chunkSize   int
+     * @param   tail        int[]
+     */
+    private IntChunkSpliterator(final Spliterator.OfInt source, final int chunkSize, final int[] tail) {
+        super();
+
+        this.source = Objects.requireNonNull(source, () -> "Spliterator.OfInt source is null");
+        this.chunkSize = chunkSize;
+        this.tail = tail;
+    }
+
+    /**
+     * If a remaining int exists, performs the given action
+     * on the next chunk, returning true; else returns false.
+     *
+     * @param   action  java.util.function.Consumer&lt;? super int[]&gt;
+     * @return          boolean
+     */
+    @Override
+    public boolean tryAdvance(final Consumer<? super int[]> action) {
+        Objects.requireNonNull(action);
+
+        final Filler filler = new Filler(new int[this.chunkSize]);
+        final int[] chunk = filler.values;
+
+        while (filler.count < chunk.length && this.source.tryAdvance(filler)) { }
+
+        while (filler.count < chunk.length && this.tail != null && this.tailIndex < this.tail.length) {
+            chunk[filler.count++] = this.tail[this.tailIndex++];
+        }
+
+        if (filler.count == 0) {
+            return false;
+        }
+
+        action.accept(filler.count == chunk.length ? chunk : Arrays.copyOf(chunk, filler.count));
+
+        return true;
+    }
+
+    /**
+     * If this spliterator can be partitioned, returns a Spliterator
+     * covering elements, that will, upon return from this method,
+     * not be covered by this Spliterator.
+     *
+     * @return  net.jmp.demo.streams.spliterators.IntChunkSpliterator
+     */
+    @Override
+    public IntChunkSpliterator trySplit() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final TrySplitEvent event = new TrySplitEvent();
+
+        event.begin();
+
+        final long size = this.estimateSize();
+        final Spliterator.OfInt prefix = this.source.trySplit();
+
+        IntChunkSpliterator spliterator = null;
+
+        if (prefix != null) {
+            final int remainder = (int) (prefix.estimateSize() % this.chunkSize);
+
+            int[] prefixTail = null;
+
+            if (remainder != 0 && prefix.hasCharacteristics(SIZED) && this.source.hasCharacteristics(SIZED)) {
+                final Filler filler = new Filler(new int[this.chunkSize - remainder]);
+
+                while (filler.count < filler.values.length && this.source.tryAdvance(filler)) { }
+
+                while (filler.count < filler.values.length && this.tail != null && this.tailIndex < this.tail.length) {
+                    filler.values[filler.count++] = this.tail[this.tailIndex++];
+                }
+
+                prefixTail = filler.count == filler.values.length ? filler.values : Arrays.copyOf(filler.values, filler.count);
+            }
+
+            spliterator = new IntChunkSpliterator(prefix, this.chunkSize, prefixTail);
+        }
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.spliterator = this.getClass();
+            event.split = spliterator != null;
+            event.size = size;
+            event.retainedSize = this.estimateSize();
+            event.splitSize = spliterator != null ? spliterator.estimateSize() : 0;
+            event.commit();
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(spliterator));
+        }
+
+        return spliterator;
+    }
+
+    /**
+     * Returns the number of chunks remaining when the
+     * source is sized, or else the source's estimate.
+     *
+     * @return  long
+     */
+    @Override
+    public long estimateSize() {
+        final long size = this.source.estimateSize();
+
+        if (size == Long.MAX_VALUE) {
+            return size;
+        }
+
+        final long values = size + (this.tail != null ? this.tail.length - this.tailIndex : 0);
+
+        return (values + this.chunkSize - 1) / this.chunkSize;
+    }
+
+    /**
+     * Returns a set of characteristics of this Spliterator and its elements.
+     *
+     * @return  int
+     */
+    @Override
+    public int characteristics() {
+        return (this.source.characteristics() & (ORDERED | SIZED | SUBSIZED | IMMUTABLE | CONCURRENT)) | NONNULL;
+    }
+
+    /**
+     * The consumer that fills an int array.
+     */
+    private static final class Filler implements IntConsumer {
+        /** The array. */
+        private final int[] values;
+
+        /** The number of values filled. */
+        private int count;
+
+        /**
+         * The constructor.
+         *
+         * @param   values  int[]
+         */
+        private Filler(final int[] values) {
+            super();
+
+            this.values = values;
+        }
+
+        /**
+         * Add the value to the array.
+         *
+         * @param   value   int
+         */
+        @Override
+        public void accept(final int value) {
+            this.values[this.count++] = value;
+        }
+    }
+}
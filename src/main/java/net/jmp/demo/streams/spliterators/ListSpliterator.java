@@ -1,11 +1,12 @@
 package net.jmp.demo.streams.spliterators;
 
 /*
+ * (#)ListSpliterator.java  0.14.0  10/17/2026
  * (#)ListSpliterator.java  0.10.0  09/24/2024
  * (#)ListSpliterator.java  0.9.0   09/11/2024
  *
  * @author   Jonathan Parker
- * @version  0.10.0
+ * @version  0.14.0
  * @since    0.9.0
  *
  * MIT License
@@ -31,23 +32,32 @@ package net.jmp.demo.streams.spliterators;
  * SOFTWARE.
  */
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.RandomAccess;
 import java.util.Spliterator;
 
 import java.util.function.Consumer;
 
+import net.jmp.demo.streams.events.TrySplitEvent;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A list spliterator.
+ * A list spliterator. Splits share the backing list
+ * and cover an [origin, fence) range of its indexes,
+ * so a split costs O(1) and reading an element is one
+ * indexed get at any depth. A list that does not
+ * implement RandomAccess is copied once into an array
+ * list so that those gets stay constant time.
  *
  * @param   <T> The type of element
  */
-public final class ListSpliterator<T> extends AdvanceCounter implements Spliterator<T> {
+public final class ListSpliterator<T> implements Spliterator<T> {
     /** The logger. */
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
@@ -57,6 +67,9 @@ public final class ListSpliterator<T> extends AdvanceCounter implements Splitera
     /** The current index. */
     private int currentIndex;
 
+    /** One past the last index covered. */
+    private final int fence;
+
     /**
      * The constructor.
      *
@@ -65,12 +78,30 @@ public final class ListSpliterator<T> extends AdvanceCounter implements Splitera
     public ListSpliterator(final List<T> list) {
         super();
 
-        this.list = Objects.requireNonNull(list);
+        Objects.requireNonNull(list);
+
+        this.list = list instanceof RandomAccess ? list : new ArrayList<>(list);
         this.currentIndex = 0;
+        this.fence = this.list.size();
 
         this.logger.debug("Initial list size: {}", list.size());
     }
 
+    /**
+     * The constructor used by trySplit().
+     *
+     * @param   list    java.util.List&lt;T&gt;
+     * @param   origin  int
+     * @param   fence   int
+     */
+    private ListSpliterator(final List<T> list, final int origin, final int fence) {
+        super();
+
+        this.list = list;
+        this.currentIndex = origin;
+        this.fence = fence;
+    }
+
     /**
      * If a remaining element exists: performs the given action on it,
      * returning true; else returns false.
@@ -90,17 +121,16 @@ public final class ListSpliterator<T> extends AdvanceCounter implements Splitera
 
         if (this.logger.isDebugEnabled()) {
             this.logger.debug("{} currentIndex: {}", threadName, this.currentIndex);
-            this.logger.debug("{} listSize: {}", threadName, this.list.size());
+            this.logger.debug("{} fence: {}", threadName, this.fence);
         }
 
-        if (this.currentIndex < this.list.size()) {
+        if (this.currentIndex < this.fence) {
             final T item = this.list.get(this.currentIndex);
 
             this.logger.debug("{} value: {}", threadName, item);
 
             action.accept(item);
 
-            ++super.count;
             ++this.currentIndex;
 
             this.logger.debug("{} currentIndex: {}", threadName, this.currentIndex);
@@ -115,6 +145,41 @@ public final class ListSpliterator<T> extends AdvanceCounter implements Splitera
         return result;
     }
 
+    /**
+     * Performs the given action for each remaining element,
+     * sequentially in the current thread, until all elements
+     * have been processed. The index is updated once
+     * rather than per element.
+     *
+     * @param   action  java.util.function.Consumer&lt;? super T&gt;
+     */
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(action));
+        }
+
+        Objects.requireNonNull(action);
+
+        final List<T> elements = this.list;
+        final int origin = this.currentIndex;
+        final int end = this.fence;
+
+        this.currentIndex = end;
+
+        for (int index = origin; index < end; index++) {
+            action.accept(elements.get(index));
+        }
+
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("{} consumed: {}", this.getThreadName(), end - origin);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
     /**
      * If this spliterator can be partitioned, returns a Spliterator
      * covering elements, that will, upon return from this method,
@@ -128,12 +193,18 @@ public final class ListSpliterator<T> extends AdvanceCounter implements Splitera
             this.logger.trace(entry());
         }
 
+        final TrySplitEvent event = new TrySplitEvent();
+
+        event.begin();
+
         final String threadName = this.getThreadName();
-        final int currentSize = this.list.size() - this.currentIndex;
+        final int currentSize = this.fence - this.currentIndex;
 
         this.logger.debug("{} currentSize: {}", threadName, currentSize);
 
         if (currentSize < 2) {
+            this.recordTrySplit(event, currentSize, null);
+
             if (this.logger.isTraceEnabled()) {
                 this.logger.trace(exitWith(null));
             }
@@ -147,12 +218,14 @@ public final class ListSpliterator<T> extends AdvanceCounter implements Splitera
 
         this.logger.debug("{} splitIndex: {}", threadName, splitIndex);
 
-        final ListSpliterator<T> spliterator = new ListSpliterator<>(this.list.subList(this.currentIndex, splitIndex));
+        final ListSpliterator<T> spliterator = new ListSpliterator<>(this.list, this.currentIndex, splitIndex);
 
         this.currentIndex = splitIndex;
 
         this.logger.debug("{} currentIndex: {}", threadName, this.currentIndex);
 
+        this.recordTrySplit(event, currentSize, spliterator);
+
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exitWith(spliterator));
         }
@@ -169,7 +242,7 @@ public final class ListSpliterator<T> extends AdvanceCounter implements Splitera
      */
     @Override
     public long estimateSize() {
-        return (this.list.size() - this.currentIndex);
+        return (this.fence - this.currentIndex);
     }
 
     /**
@@ -182,6 +255,27 @@ public final class ListSpliterator<T> extends AdvanceCounter implements Splitera
         return ORDERED | SIZED | SUBSIZED | NONNULL;
     }
 
+    /**
+     * Record the trySplit() decision in a
+     * flight recorder event if the event is enabled.
+     *
+     * @param   event       net.jmp.demo.streams.events.TrySplitEvent
+     * @param   size        long
+     * @param   spliterator net.jmp.demo.streams.spliterators.ListSpliterator&lt;T&gt;
+     */
+    private void recordTrySplit(final TrySplitEvent event, final long size, final ListSpliterator<T> spliterator) {
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.spliterator = this.getClass();
+            event.split = spliterator != null;
+            event.size = size;
+            event.retainedSize = this.estimateSize();
+            event.splitSize = spliterator != null ? spliterator.estimateSize() : 0;
+            event.commit();
+        }
+    }
+
     /**
      * Return a bracketed thread name.
      *
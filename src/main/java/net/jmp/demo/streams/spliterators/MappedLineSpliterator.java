@@ -0,0 +1,283 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)MappedLineSpliterator.java    0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import java.util.Objects;
+import java.util.Spliterator;
+
+import java.util.function.Consumer;
+
+import net.jmp.demo.streams.events.TrySplitEvent;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A spliterator over the lines of a memory segment,
+ * typically a mapped text file. Each line is passed to
+ * the action as a slice of the segment without its line
+ * terminator (a newline or a carriage return and newline),
+ * so no bytes are copied or decoded. It splits at the first
+ * newline after the middle of its range, so any thread can
+ * start work at any offset, unlike a buffered reader.
+ * The size is estimated from the remaining bytes and the
+ * average line length of a sample taken at construction.
+ */
+public final class MappedLineSpliterator implements Spliterator<MemorySegment> {
+    /** The number of bytes sampled to estimate the line length. */
+    private static final long SAMPLE_SIZE = 1 << 16;
+
+    /** The newline byte. */
+    private static final byte NEWLINE = '\n';
+
+    /** The carriage return byte. */
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The memory segment. */
+    private final MemorySegment segment;
+
+    /** The offset of the start of the next line. */
+    private long position;
+
+    /** One past the last offset covered. */
+    private final long fence;
+
+    /** The estimated average number of bytes per line. */
+    private final double bytesPerLine;
+
+    /**
+     * The constructor.
+     *
+     * @param   segment java.lang.foreign.MemorySegment
+     */
+    public MappedLineSpliterator(final MemorySegment segment) {
+        this(Objects.requireNonNull(segment), 0, segment.byteSize(), sampleLineLength(segment));
+    }
+
+    /**
+     * The constructor used by trySplit().
+     *
+     * @param   segment         java.lang.foreign.MemorySegment
+     * @param   origin          long
+     * @param   fence           long
+     * @param   bytesPerLine    double
+     */
+    private MappedLineSpliterator(final MemorySegment segment,
+                                  final long origin,
+                                  final long fence,
+                                  final double bytesPerLine) {
+        super();
+
+        this.segment = segment;
+        this.position = origin;
+        this.fence = fence;
+        this.bytesPerLine = bytesPerLine;
+    }
+
+    /**
+     * If a remaining line exists: performs the given action
+     * on it, returning true; else returns false.
+     *
+     * @param   action  java.util.function.Consumer&lt;? super java.lang.foreign.MemorySegment&gt;
+     * @return          boolean
+     */
+    @Override
+    public boolean tryAdvance(final Consumer<? super MemorySegment> action) {
+        Objects.requireNonNull(action);
+
+        if (this.position < this.fence) {
+            action.accept(this.nextLine());
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Performs the given action for each remaining line,
+     * sequentially in the current thread, until all lines
+     * have been processed.
+     *
+     * @param   action  java.util.function.Consumer&lt;? super java.lang.foreign.MemorySegment&gt;
+     */
+    @Override
+    public void forEachRemaining(final Consumer<? super MemorySegment> action) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(action));
+        }
+
+        Objects.requireNonNull(action);
+
+        while (this.position < this.fence) {
+            action.accept(this.nextLine());
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /**
+     * If this spliterator can be partitioned, returns a Spliterator
+     * covering elements, that will, upon return from this method,
+     * not be covered by this Spliterator.
+     *
+     * @return  net.jmp.demo.streams.spliterators.MappedLineSpliterator
+     */
+    @Override
+    public MappedLineSpliterator trySplit() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final TrySplitEvent event = new TrySplitEvent();
+
+        event.begin();
+
+        final long size = this.estimateSize();
+        final long newline = this.indexOfNewline(this.position + (this.fence - this.position) / 2);
+
+        MappedLineSpliterator spliterator = null;
+
+        if (newline < this.fence - 1) {
+            // The prefix ends with the newline and this spliterator starts the next line
+
+            spliterator = new MappedLineSpliterator(this.segment, this.position, newline + 1, this.bytesPerLine);
+
+            this.position = newline + 1;
+        }
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.spliterator = this.getClass();
+            event.split = spliterator != null;
+            event.size = size;
+            event.retainedSize = this.estimateSize();
+            event.splitSize = spliterator != null ? spliterator.estimateSize() : 0;
+            event.commit();
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(spliterator));
+        }
+
+        return spliterator;
+    }
+
+    /**
+     * Returns an estimate of the number of lines remaining,
+     * from the remaining bytes and the sampled line length.
+     *
+     * @return  long
+     */
+    @Override
+    public long estimateSize() {
+        return (long) Math.ceil((this.fence - this.position) / this.bytesPerLine);
+    }
+
+    /**
+     * Returns a set of characteristics of this Spliterator and its elements.
+     *
+     * @return  int
+     */
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+
+    /**
+     * Return the next line and move past it.
+     *
+     * @return  java.lang.foreign.MemorySegment
+     */
+    private MemorySegment nextLine() {
+        final long start = this.position;
+        final long newline = this.indexOfNewline(start);
+
+        long end = newline;
+
+        if (end > start && this.segment.get(ValueLayout.JAVA_BYTE, end - 1) == CARRIAGE_RETURN) {
+            end--;
+        }
+
+        this.position = Math.min(newline + 1, this.fence);
+
+        return this.segment.asSlice(start, end - start);
+    }
+
+    /**
+     * Return the offset of the first newline at or after
+     * the given offset, or the fence if there is none.
+     *
+     * @param   from    long
+     * @return          long
+     */
+    private long indexOfNewline(final long from) {
+        for (long offset = from; offset < this.fence; offset++) {
+            if (this.segment.get(ValueLayout.JAVA_BYTE, offset) == NEWLINE) {
+                return offset;
+            }
+        }
+
+        return this.fence;
+    }
+
+    /**
+     * Return the average line length in bytes of
+     * a sample from the start of the segment.
+     *
+     * @param   segment java.lang.foreign.MemorySegment
+     * @return          double
+     */
+    private static double sampleLineLength(final MemorySegment segment) {
+        final long sampleSize = Math.min(SAMPLE_SIZE, segment.byteSize());
+
+        long newlines = 0;
+
+        for (long offset = 0; offset < sampleSize; offset++) {
+            if (segment.get(ValueLayout.JAVA_BYTE, offset) == NEWLINE) {
+                newlines++;
+            }
+        }
+
+        return newlines == 0 ? Math.max(1, sampleSize) : (double) sampleSize / newlines;
+    }
+}
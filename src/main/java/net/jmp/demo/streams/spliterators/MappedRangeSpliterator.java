@@ -0,0 +1,206 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)MappedRangeSpliterator.java   0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import java.util.Objects;
+import java.util.Spliterator;
+
+import java.util.function.Consumer;
+
+import net.jmp.demo.streams.events.TrySplitEvent;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A spliterator over the bytes of a memory segment,
+ * typically a mapped file of text in an ASCII-compatible
+ * encoding such as UTF-8. It splits only at white space
+ * bytes and passes each range that is left unsplit to
+ * the action as a single slice of the segment, so the
+ * bytes are never copied onto the heap.
+ */
+public final class MappedRangeSpliterator implements Spliterator<MemorySegment> {
+    /** The smallest range in bytes that is split. */
+    private static final long MINIMUM_SPLIT = 1 << 16;
+
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The memory segment. */
+    private final MemorySegment segment;
+
+    /** The offset of the first byte not yet passed to an action. */
+    private long origin;
+
+    /** One past the last offset covered. */
+    private final long fence;
+
+    /**
+     * The constructor.
+     *
+     * @param   segment java.lang.foreign.MemorySegment
+     */
+    public MappedRangeSpliterator(final MemorySegment segment) {
+        this(Objects.requireNonNull(segment), 0, segment.byteSize());
+    }
+
+    /**
+     * The constructor used by trySplit().
+     *
+     * @param   segment java.lang.foreign.MemorySegment
+     * @param   origin  long
+     * @param   fence   long
+     */
+    private MappedRangeSpliterator(final MemorySegment segment, final long origin, final long fence) {
+        super();
+
+        this.segment = segment;
+        this.origin = origin;
+        this.fence = fence;
+    }
+
+    /**
+     * Return true if the byte is white space. Only ASCII
+     * white space is recognized; the bytes of multi-byte
+     * UTF-8 characters are never white space.
+     *
+     * @param   b   byte
+     * @return      boolean
+     */
+    public static boolean isWhitespace(final byte b) {
+        return b == ' ' || (b >= '\t' && b <= '\r') || (b >= 0x1C && b <= 0x1F);
+    }
+
+    /**
+     * If a remaining range exists: performs the given action
+     * on a slice of it, returning true; else returns false.
+     *
+     * @param   action  java.util.function.Consumer&lt;? super java.lang.foreign.MemorySegment&gt;
+     * @return          boolean
+     */
+    @Override
+    public boolean tryAdvance(final Consumer<? super MemorySegment> action) {
+        Objects.requireNonNull(action);
+
+        if (this.origin < this.fence) {
+            final MemorySegment range = this.segment.asSlice(this.origin, this.fence - this.origin);
+
+            this.origin = this.fence;
+
+            action.accept(range);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * If this spliterator can be partitioned, returns a Spliterator
+     * covering elements, that will, upon return from this method,
+     * not be covered by this Spliterator.
+     *
+     * @return  net.jmp.demo.streams.spliterators.MappedRangeSpliterator
+     */
+    @Override
+    public MappedRangeSpliterator trySplit() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final TrySplitEvent event = new TrySplitEvent();
+
+        event.begin();
+
+        final long currentSize = this.fence - this.origin;
+
+        MappedRangeSpliterator spliterator = null;
+
+        if (currentSize >= MINIMUM_SPLIT) {
+            for (long splitPos = (currentSize / 2) + this.origin; splitPos < this.fence; splitPos++) {
+                // White space is a word boundary
+
+                if (isWhitespace(this.segment.get(ValueLayout.JAVA_BYTE, splitPos))) {
+                    spliterator = new MappedRangeSpliterator(this.segment, this.origin, splitPos);
+
+                    this.origin = splitPos;
+
+                    break;
+                }
+            }
+        }
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.spliterator = this.getClass();
+            event.split = spliterator != null;
+            event.size = currentSize;
+            event.retainedSize = this.estimateSize();
+            event.splitSize = spliterator != null ? spliterator.estimateSize() : 0;
+            event.commit();
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(spliterator));
+        }
+
+        return spliterator;
+    }
+
+    /**
+     * Returns an estimate of the work remaining, which
+     * is the number of bytes rather than the number of
+     * slices that will be passed to an action.
+     *
+     * @return  long
+     */
+    @Override
+    public long estimateSize() {
+        return this.fence - this.origin;
+    }
+
+    /**
+     * Returns a set of characteristics of this Spliterator and its elements.
+     *
+     * @return  int
+     */
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+}
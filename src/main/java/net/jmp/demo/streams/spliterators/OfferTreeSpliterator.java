@@ -0,0 +1,386 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)OfferTreeSpliterator.java 0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Spliterator;
+
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+
+import net.jmp.demo.streams.events.TrySplitEvent;
+
+import net.jmp.demo.streams.records.Offer;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A spliterator over every offer in one or more offer
+ * trees of any depth, each offer before its child offers
+ * (pre-order). The pending subtrees are kept in a deque
+ * rather than on the call stack, and trySplit() hands
+ * the first half of them to the new spliterator, so a
+ * split always falls on a subtree boundary. When a single
+ * subtree remains its root is set aside to be passed first
+ * and its child offers become the pending subtrees.
+ *
+ * <p>When a function returning the number of offers in a
+ * subtree is given, the spliterator is SIZED and SUBSIZED
+ * and splits are balanced by those counts. Otherwise the
+ * size is unknown, and the estimate starts at Long.MAX_VALUE
+ * and halves with each split.
+ */
+public final class OfferTreeSpliterator implements Spliterator<Offer> {
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The offers set aside to be passed alone, before the subtrees. */
+    private final Deque<Offer> offers;
+
+    /** The roots of the pending subtrees in encounter order. */
+    private final Deque<Offer> subtrees;
+
+    /** The function returning the number of offers in a subtree, or null. */
+    private final ToLongFunction<Offer> subtreeSize;
+
+    /** The exact number of offers remaining when sized, or else the estimate. */
+    private long size;
+
+    /**
+     * A constructor over one offer tree whose size is unknown.
+     *
+     * @param   offer   net.jmp.demo.streams.records.Offer
+     */
+    public OfferTreeSpliterator(final Offer offer) {
+        this(List.of(Objects.requireNonNull(offer, () -> "Offer offer is null")), null);
+    }
+
+    /**
+     * A constructor over a list of offer trees
+     * whose subtree sizes may be known.
+     *
+     * @param   offers      java.util.List&lt;net.jmp.demo.streams.records.Offer&gt;
+     * @param   subtreeSize java.util.function.ToLongFunction&lt;net.jmp.demo.streams.records.Offer&gt;
+     */
+    public OfferTreeSpliterator(final List<Offer> offers, final ToLongFunction<Offer> subtreeSize) {
+        super();
+
+        Objects.requireNonNull(offers, () -> "List<Offer> offers is null");
+
+        this.offers = new ArrayDeque<>();
+        this.subtrees = new ArrayDeque<>(offers);
+        this.subtreeSize = subtreeSize;
+
+        if (subtreeSize != null) {
+            this.size = 0;
+
+            for (final Offer offer : offers) {
+                this.size += subtreeSize.applyAsLong(offer);
+            }
+        } else {
+            this.size = Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * The constructor used by trySplit().
+     *
+     * @param   offers      java.util.Deque&lt;net.jmp.demo.streams.records.Offer&gt;
+     * @param   subtrees    java.util.Deque&lt;net.jmp.demo.streams.records.Offer&gt;
+     * @param   subtreeSize java.util.function.ToLongFunction&lt;net.jmp.demo.streams.records.Offer&gt;
+     * @param   size        long
+     */
+    private OfferTreeSpliterator(final Deque<Offer> offers,
+                                 final Deque<Offer> subtrees,
+                                 final ToLongFunction<Offer> subtreeSize,
+                                 final long size) {
+        super();
+
+        this.offers = offers;
+        this.subtrees = subtrees;
+        this.subtreeSize = subtreeSize;
+        this.size = size;
+    }
+
+    /**
+     * Return a function that returns the number of offers
+     * in any subtree of the offer trees, counted once up
+     * front without recursion. The counts are held by
+     * identity, so equal offers in different places are
+     * counted separately.
+     *
+     * @param   offers  java.util.List&lt;net.jmp.demo.streams.records.Offer&gt;
+     * @return          java.util.function.ToLongFunction&lt;net.jmp.demo.streams.records.Offer&gt;
+     */
+    public static ToLongFunction<Offer> countSubtrees(final List<Offer> offers) {
+        final List<Offer> preOrder = new ArrayList<>();
+        final Deque<Offer> pending = new ArrayDeque<>(offers);
+
+        while (!pending.isEmpty()) {
+            final Offer offer = pending.pop();
+
+            preOrder.add(offer);
+            offer.childOffers().forEach(pending::push);
+        }
+
+        final Map<Offer, Long> counts = new IdentityHashMap<>(preOrder.size());
+
+        for (int i = preOrder.size() - 1; i >= 0; i--) {   // Every child is counted before its parent
+            final Offer offer = preOrder.get(i);
+
+            long count = 1;
+
+            for (final Offer childOffer : offer.childOffers()) {
+                count += counts.get(childOffer);
+            }
+
+            counts.put(offer, count);
+        }
+
+        return counts::get;
+    }
+
+    /**
+     * If a remaining element exists, performs the given action on it,
+     * returning true; else returns false.
+     *
+     * @param   action  java.util.function.Consumer&lt;? super net.jmp.demo.streams.records.Offer&gt;
+     * @return          boolean
+     */
+    @Override
+    public boolean tryAdvance(final Consumer<? super Offer> action) {
+        Objects.requireNonNull(action);
+
+        final Offer offer = this.next();
+
+        if (offer == null) {
+            return false;
+        }
+
+        action.accept(offer);
+
+        return true;
+    }
+
+    /**
+     * Performs the given action for each remaining element,
+     * sequentially in the current thread, until all elements
+     * have been processed.
+     *
+     * @param   action  java.util.function.Consumer&lt;? super net.jmp.demo.streams.records.Offer&gt;
+     */
+    @Override
+    public void forEachRemaining(final Consumer<? super Offer> action) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(action));
+        }
+
+        Objects.requireNonNull(action);
+
+        Offer offer;
+
+        while ((offer = this.next()) != null) {
+            action.accept(offer);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /**
+     * If this spliterator can be partitioned, returns a Spliterator
+     * covering elements, that will, upon return from this method,
+     * not be covered by this Spliterator.
+     *
+     * @return  net.jmp.demo.streams.spliterators.OfferTreeSpliterator
+     */
+    @Override
+    public OfferTreeSpliterator trySplit() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final TrySplitEvent event = new TrySplitEvent();
+
+        event.begin();
+
+        final long currentSize = this.size;
+
+        while (this.subtrees.size() == 1 && !this.subtrees.peekFirst().childOffers().isEmpty()) {
+            final Offer offer = this.subtrees.pollFirst();
+
+            this.offers.addLast(offer);
+            this.subtrees.addAll(offer.childOffers());
+        }
+
+        OfferTreeSpliterator spliterator = null;
+
+        if (this.subtrees.size() > 1) {
+            final int count = this.prefixCount();
+            final Deque<Offer> prefixSubtrees = new ArrayDeque<>(count);
+
+            long prefixSize = this.offers.size();
+
+            for (int i = 0; i < count; i++) {
+                final Offer offer = this.subtrees.pollFirst();
+
+                if (this.subtreeSize != null) {
+                    prefixSize += this.subtreeSize.applyAsLong(offer);
+                }
+
+                prefixSubtrees.addLast(offer);
+            }
+
+            if (this.subtreeSize != null) {
+                this.size -= prefixSize;
+            } else {
+                this.size = prefixSize = this.size >>> 1;
+            }
+
+            spliterator = new OfferTreeSpliterator(new ArrayDeque<>(this.offers), prefixSubtrees, this.subtreeSize, prefixSize);
+
+            this.offers.clear();
+        }
+
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.spliterator = this.getClass();
+            event.split = spliterator != null;
+            event.size = currentSize;
+            event.retainedSize = this.estimateSize();
+            event.splitSize = spliterator != null ? spliterator.estimateSize() : 0;
+            event.commit();
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(spliterator));
+        }
+
+        return spliterator;
+    }
+
+    /**
+     * Returns the number of offers remaining when the subtree
+     * sizes are known, or else an estimate that halves with
+     * each split.
+     *
+     * @return  long
+     */
+    @Override
+    public long estimateSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns a set of characteristics of this Spliterator and its elements.
+     *
+     * @return  int
+     */
+    @Override
+    public int characteristics() {
+        return this.subtreeSize != null
+                ? ORDERED | NONNULL | SIZED | SUBSIZED
+                : ORDERED | NONNULL;
+    }
+
+    /**
+     * Return the next offer in pre-order and queue its
+     * child offers ahead of the other subtrees, or return
+     * null when there are none left.
+     *
+     * @return  net.jmp.demo.streams.records.Offer
+     */
+    private Offer next() {
+        Offer offer = this.offers.pollFirst();
+
+        if (offer == null) {
+            offer = this.subtrees.pollFirst();
+
+            if (offer == null) {
+                return null;
+            }
+
+            final List<Offer> childOffers = offer.childOffers();
+
+            for (int i = childOffers.size() - 1; i >= 0; i--) {
+                this.subtrees.addFirst(childOffers.get(i));
+            }
+        }
+
+        if (this.subtreeSize != null) {
+            this.size--;
+        }
+
+        return offer;
+    }
+
+    /**
+     * Return the number of pending subtrees to hand to the
+     * new spliterator: the fewest whose cumulative size
+     * reaches half of the size when the subtree sizes are
+     * known, or else half of them. At least one subtree is
+     * always retained.
+     *
+     * @return  int
+     */
+    private int prefixCount() {
+        final int pending = this.subtrees.size();
+
+        if (this.subtreeSize == null) {
+            return pending / 2;
+        }
+
+        long prefixSize = this.offers.size();
+        int count = 0;
+
+        for (final Offer offer : this.subtrees) {
+            if (count == pending - 1 || prefixSize * 2 >= this.size) {
+                break;
+            }
+
+            prefixSize += this.subtreeSize.applyAsLong(offer);
+            count++;
+        }
+
+        return Math.max(1, count);
+    }
+}
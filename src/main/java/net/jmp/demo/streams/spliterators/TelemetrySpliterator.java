@@ -0,0 +1,280 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)TelemetrySpliterator.java 0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.Spliterator;
+
+import java.util.function.Consumer;
+
+import net.jmp.demo.streams.records.SplitMetrics;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A spliterator that wraps any other spliterator and
+ * reports the telemetry of each split to a sink once
+ * the split has been traversed to its end. Splits
+ * are wrapped too, one level deeper than their parent.
+ * A split's queued time runs from the trySplit() that
+ * created it, or from construction for the root, to
+ * its first traversal, and its processing time runs
+ * from then to its exhaustion. A split that is never
+ * exhausted, as in a short-circuiting stream, is not
+ * reported.
+ *
+ * @param   <T> The type of element
+ */
+public final class TelemetrySpliterator<T> implements Spliterator<T> {
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The wrapped spliterator. */
+    private final Spliterator<T> spliterator;
+
+    /** The sink that receives the metrics of each split. */
+    private final Consumer<? super SplitMetrics> sink;
+
+    /** When this split became available, in nanoseconds. */
+    private final long createdNanos;
+
+    /** The depth in the split tree. */
+    private int depth;
+
+    /** The number of elements yielded. */
+    private long elements;
+
+    /** When the first traversal began, in nanoseconds. */
+    private long startNanos;
+
+    /** True once the first traversal has begun. */
+    private boolean started;
+
+    /** True once the metrics have been reported. */
+    private boolean reported;
+
+    /**
+     * The constructor.
+     *
+     * @param   spliterator java.util.Spliterator&lt;T&gt;
+     * @param   sink        java.util.function.Consumer&lt;? super net.jmp.demo.streams.records.SplitMetrics&gt;
+     */
+    public TelemetrySpliterator(final Spliterator<T> spliterator, final Consumer<? super SplitMetrics> sink) {
+        this(spliterator, sink, 0);
+    }
+
+    /**
+     * The constructor used by trySplit().
+     *
+     * @param   spliterator java.util.Spliterator&lt;T&gt;
+     * @param   sink        java.util.function.Consumer&lt;? super net.jmp.demo.streams.records.SplitMetrics&gt;
+     * @param   depth       int
+     */
+    private TelemetrySpliterator(final Spliterator<T> spliterator,
+                                 final Consumer<? super SplitMetrics> sink,
+                                 final int depth) {
+        super();
+
+        this.spliterator = Objects.requireNonNull(spliterator, () -> "Spliterator<T> spliterator is null");
+        this.sink = Objects.requireNonNull(sink, () -> "Consumer<SplitMetrics> sink is null");
+        this.depth = depth;
+        this.createdNanos = System.nanoTime();
+    }
+
+    /**
+     * If a remaining element exists, performs the given action on it,
+     * returning true; else returns false. The split is reported
+     * when no element remains.
+     *
+     * @param   action  java.util.function.Consumer&lt;? super T&gt;
+     * @return          boolean
+     */
+    @Override
+    public boolean tryAdvance(final Consumer<? super T> action) {
+        this.start();
+
+        if (this.spliterator.tryAdvance(action)) {
+            this.elements++;
+
+            return true;
+        }
+
+        this.report();
+
+        return false;
+    }
+
+    /**
+     * Performs the given action for each remaining element,
+     * sequentially in the current thread, until all elements
+     * have been processed, and then reports the split.
+     *
+     * @param   action  java.util.function.Consumer&lt;? super T&gt;
+     */
+    @Override
+    public void forEachRemaining(final Consumer<? super T> action) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(action));
+        }
+
+        Objects.requireNonNull(action);
+
+        this.start();
+
+        this.spliterator.forEachRemaining(element -> {
+            this.elements++;
+
+            action.accept(element);
+        });
+
+        this.report();
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /**
+     * If this spliterator can be partitioned, returns a Spliterator
+     * covering elements, that will, upon return from this method,
+     * not be covered by this Spliterator. Both this spliterator
+     * and the one returned are one level deeper than before.
+     *
+     * @return  net.jmp.demo.streams.spliterators.TelemetrySpliterator&lt;T&gt;
+     */
+    @Override
+    public TelemetrySpliterator<T> trySplit() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        final Spliterator<T> split = this.spliterator.trySplit();
+
+        TelemetrySpliterator<T> result = null;
+
+        if (split != null) {
+            result = new TelemetrySpliterator<>(split, this.sink, ++this.depth);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(result));
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns an estimate of the number of elements that would be encountered
+     * by a forEachRemaining(java.util.function.Consumer&lt;? super T&gt;) traversal,
+     * or returns Long.MAX_VALUE if infinite, unknown, or too expensive to compute.
+     *
+     * @return  long
+     */
+    @Override
+    public long estimateSize() {
+        return this.spliterator.estimateSize();
+    }
+
+    /**
+     * Convenience method that returns estimateSize()
+     * if this Spliterator is SIZED, else -1.
+     *
+     * @return  long
+     */
+    @Override
+    public long getExactSizeIfKnown() {
+        return this.spliterator.getExactSizeIfKnown();
+    }
+
+    /**
+     * Returns a set of characteristics of this Spliterator and its elements.
+     *
+     * @return  int
+     */
+    @Override
+    public int characteristics() {
+        return this.spliterator.characteristics();
+    }
+
+    /**
+     * If this Spliterator's source is SORTED by a Comparator,
+     * returns that Comparator.
+     *
+     * @return  java.util.Comparator&lt;? super T&gt;
+     */
+    @Override
+    public Comparator<? super T> getComparator() {
+        return this.spliterator.getComparator();
+    }
+
+    /**
+     * Return the number of elements yielded so far.
+     *
+     * @return  long
+     */
+    public long getElements() {
+        return this.elements;
+    }
+
+    /**
+     * Note the start of the first traversal.
+     */
+    private void start() {
+        if (!this.started) {
+            this.started = true;
+            this.startNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Report the metrics of the split to
+     * the sink the first time it is exhausted.
+     */
+    private void report() {
+        if (!this.reported) {
+            final long endNanos = System.nanoTime();
+
+            this.reported = true;
+
+            this.sink.accept(new SplitMetrics(this.depth,
+                    Thread.currentThread().getName(),
+                    this.elements,
+                    this.startNanos - this.createdNanos,
+                    endNanos - this.startNanos,
+                    this.startNanos,
+                    endNanos));
+        }
+    }
+}
@@ -1,11 +1,12 @@
 package net.jmp.demo.streams.spliterators;
 
 /*
+ * (#)WordSpliterator.java  0.14.0  10/17/2026
  * (#)WordSpliterator.java  0.10.0  09/24/2024
  * (#)WordSpliterator.java  0.9.0   09/11/2024
  *
  * @author   Jonathan Parker
- * @version  0.10.0
+ * @version  0.14.0
  * @since    0.9.0
  *
  * MIT License
@@ -36,34 +37,55 @@ import java.util.Spliterator;
 
 import java.util.function.Consumer;
 
+import net.jmp.demo.streams.events.TrySplitEvent;
+
 import static net.jmp.util.logging.LoggerUtils.*;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A word spliterator.
+ * A word spliterator. It reads any character sequence,
+ * such as a string, a string builder or a decoded char
+ * buffer, which must not change while it is traversed.
+ * Splits share the sequence and cover an [origin, fence)
+ * range of its indexes, so splitting copies no text.
  */
 public final class WordSpliterator implements Spliterator<Character> {
     /** The logger. */
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
-    /** The string of words. */
-    private final String string;
+    /** The characters of the words. */
+    private final CharSequence characters;
 
-    /** The position of the current character in the string. */
+    /** The position of the current character in the sequence. */
     private int currentPosition;
 
+    /** One past the last position covered. */
+    private final int fence;
+
     /**
      * The constructor.
      *
-     * @param   string  java.lang.String
+     * @param   characters  java.lang.CharSequence
      */
-    public WordSpliterator(final String string) {
+    public WordSpliterator(final CharSequence characters) {
+        this(Objects.requireNonNull(characters), 0, characters.length());
+    }
+
+    /**
+     * The constructor used by trySplit().
+     *
+     * @param   characters  java.lang.CharSequence
+     * @param   origin      int
+     * @param   fence       int
+     */
+    private WordSpliterator(final CharSequence characters, final int origin, final int fence) {
         super();
 
-        this.string = Objects.requireNonNull(string);
-        this.currentPosition = 0;
+        this.characters = characters;
+        this.currentPosition = origin;
+        this.fence = fence;
     }
 
     /**
@@ -83,14 +105,18 @@ public final class WordSpliterator implements Spliterator<Character> {
 
         if (this.logger.isDebugEnabled()) {
             this.logger.debug("{} currentPosition: {}", threadName, this.currentPosition);
-            this.logger.debug("{} stringLength: {}", threadName, this.string.length());
+            this.logger.debug("{} fence: {}", threadName, this.fence);
         }
 
-        action.accept(this.string.charAt(this.currentPosition++));  // Consume the current character
+        boolean result = false;
 
-        this.logger.debug("{} currentPosition: {}", threadName, this.currentPosition);
+        if (this.currentPosition < this.fence) {
+            action.accept(this.characters.charAt(this.currentPosition++));  // Consume the current character
 
-        final boolean result = this.currentPosition < this.string.length(); // Return true if there are more characters to consume
+            this.logger.debug("{} currentPosition: {}", threadName, this.currentPosition);
+
+            result = true;
+        }
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exitWith(result));
@@ -99,6 +125,41 @@ public final class WordSpliterator implements Spliterator<Character> {
         return result;
     }
 
+    /**
+     * Performs the given action for each remaining character,
+     * sequentially in the current thread, until all characters
+     * have been processed. The position is updated once
+     * rather than per character.
+     *
+     * @param   action  java.util.function.Consumer&lt;? super java.lang.Character&gt;
+     */
+    @Override
+    public void forEachRemaining(final Consumer<? super Character> action) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(action));
+        }
+
+        Objects.requireNonNull(action);
+
+        final CharSequence sequence = this.characters;
+        final int origin = this.currentPosition;
+        final int end = this.fence;
+
+        this.currentPosition = end;
+
+        for (int position = origin; position < end; position++) {
+            action.accept(sequence.charAt(position));
+        }
+
+        if (this.logger.isDebugEnabled()) {
+            this.logger.debug("{} consumed: {}", this.getThreadName(), end - origin);
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
     /**
      * If this spliterator can be partitioned, returns a Spliterator
      * covering elements, that will, upon return from this method,
@@ -112,14 +173,20 @@ public final class WordSpliterator implements Spliterator<Character> {
             this.logger.trace(entry());
         }
 
+        final TrySplitEvent event = new TrySplitEvent();
+
+        event.begin();
+
         WordSpliterator spliterator = null;
 
         final String threadName = this.getThreadName();
-        final int currentSize = this.string.length() - this.currentPosition;
+        final int currentSize = this.fence - this.currentPosition;
 
         this.logger.debug("{} currentSize: {}", threadName, currentSize);
 
         if (currentSize < 2) {
+            this.recordTrySplit(event, currentSize, null);
+
             if (this.logger.isTraceEnabled()) {
                 this.logger.trace(exitWith(null));
             }
@@ -127,16 +194,18 @@ public final class WordSpliterator implements Spliterator<Character> {
             return null;    // Return null to signal that the string is too small and should be processed sequentially
         }
 
-        for (int splitPos = (currentSize / 2) + this.currentPosition; splitPos < this.string.length(); splitPos++) {
+        for (int splitPos = (currentSize / 2) + this.currentPosition; splitPos < this.fence; splitPos++) {
             // White space is a word boundary
 
-            if (Character.isWhitespace(this.string.charAt(splitPos))) {
-                spliterator = new WordSpliterator(this.string.substring(this.currentPosition, splitPos));
+            if (Character.isWhitespace(this.characters.charAt(splitPos))) {
+                spliterator = new WordSpliterator(this.characters, this.currentPosition, splitPos);
 
                 this.currentPosition = splitPos;
 
                 this.logger.debug("{} currentPosition: {}", threadName, this.currentPosition);
 
+                this.recordTrySplit(event, currentSize, spliterator);
+
                 if (this.logger.isTraceEnabled()) {
                     this.logger.trace(exitWith(spliterator));
                 }
@@ -145,6 +214,8 @@ public final class WordSpliterator implements Spliterator<Character> {
             }
         }
 
+        this.recordTrySplit(event, currentSize, null);
+
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exitWith(null));
         }
@@ -161,17 +232,39 @@ public final class WordSpliterator implements Spliterator<Character> {
      */
     @Override
     public long estimateSize() {
-        return this.string.length() - this.currentPosition;
+        return this.fence - this.currentPosition;
     }
 
     /**
      * Returns a set of characteristics of this Spliterator and its elements.
+     * Only a string is immutable.
      *
      * @return  int
      */
     @Override
     public int characteristics() {
-        return ORDERED + SIZED + SUBSIZED + NONNULL + IMMUTABLE;
+        return ORDERED + SIZED + SUBSIZED + NONNULL + (this.characters instanceof String ? IMMUTABLE : 0);
+    }
+
+    /**
+     * Record the trySplit() decision in a
+     * flight recorder event if the event is enabled.
+     *
+     * @param   event       net.jmp.demo.streams.events.TrySplitEvent
+     * @param   size        long
+     * @param   spliterator net.jmp.demo.streams.spliterators.WordSpliterator
+     */
+    private void recordTrySplit(final TrySplitEvent event, final long size, final WordSpliterator spliterator) {
+        event.end();
+
+        if (event.shouldCommit()) {
+            event.spliterator = this.getClass();
+            event.split = spliterator != null;
+            event.size = size;
+            event.retainedSize = this.estimateSize();
+            event.splitSize = spliterator != null ? spliterator.estimateSize() : 0;
+            event.commit();
+        }
     }
 
     /**
@@ -1,10 +1,11 @@
 package net.jmp.demo.streams.util;
 
 /*
+ * (#)CollectorsFactory.java    0.14.0  10/17/2026
  * (#)CollectorsFactory.java    0.7.0   09/07/2024
  *
  * @author   Jonathan Parker
- * @version  0.7.0
+ * @version  0.14.0
  * @since    0.7.0
  *
  * MIT License
@@ -108,4 +109,13 @@ public final class CollectorsFactory {
     public static <T> ToDequeCollector<T> toDeque() {
         return new ToDequeCollector<>();
     }
+
+    /**
+     * Return an instance of the word-counting collector.
+     *
+     * @return  net.jmp.demo.streams.collectors.WordCountingCollector
+     */
+    public static WordCountingCollector countingWords() {
+        return new WordCountingCollector();
+    }
 }
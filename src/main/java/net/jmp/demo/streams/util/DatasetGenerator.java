@@ -0,0 +1,468 @@
+package net.jmp.demo.streams.util;
+
+/*
+ * (#)DatasetGenerator.java 0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.math.BigDecimal;
+
+import java.util.*;
+
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import net.jmp.demo.streams.records.*;
+
+/**
+ * A deterministic, seeded generator of synthetic
+ * dishes, money, albums and offer trees.
+ *
+ * <p>Every element is a pure function of the seed
+ * and its index, so the streams are built on a
+ * LongStream range: they split evenly, run in
+ * parallel without shared state, and produce the
+ * same elements however they are split. The list
+ * methods fill an array with Arrays.parallelSetAll.
+ *
+ * <p>An element whose key is a duplicate takes the
+ * key of a random earlier element and is equal to
+ * it, so distinct() and grouping see the configured
+ * duplicate ratio.
+ */
+public final class DatasetGenerator {
+    /** The golden ratio increment used by SplitMix64. */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    /** The salt for the duplicate decision. */
+    private static final int DUPLICATE = 1;
+
+    /** The salt for the earlier element chosen by a duplicate. */
+    private static final int EARLIER = 2;
+
+    /** The salt for the dish type. */
+    private static final int TYPE = 3;
+
+    /** The salt for the dish name. */
+    private static final int NAME = 4;
+
+    /** The salt for calories, amounts and costs. */
+    private static final int VALUE = 5;
+
+    /** The salt for currencies and labels. */
+    private static final int CHOICE = 6;
+
+    /** The salt for the null decision. */
+    private static final int NULL = 7;
+
+    /** The salt for the artist count and major label flag. */
+    private static final int COUNT = 8;
+
+    /** The salt base for artist keys. */
+    private static final int ARTIST = 16;
+
+    /** The salt base for offer keys; each tree level adds four. */
+    private static final int LEVEL = 32;
+
+    /** The dish names by type, in DishType order. */
+    private static final String[][] DISH_NAMES = {
+            { "prawns", "salmon", "tuna", "cod" },
+            { "pork", "beef", "chicken", "lamb", "duck" },
+            { "french fries", "rice", "seasonal fruit", "pizza", "salad" }
+    };
+
+    /** The currencies. */
+    private static final Currency[] CURRENCIES = Stream.of("PLN", "EUR", "USD", "GBP", "JPY", "CHF", "SEK", "NOK")
+            .map(Currency::getInstance)
+            .toArray(Currency[]::new);
+
+    /** The major labels. */
+    private static final String[] LABELS = {
+            "Alpha", "DG", "Decca", "EMI", "LSO", "Phillips", "RCA", "Sony", "Universal", "Warner"
+    };
+
+    /** The settings. */
+    private final DatasetSettings settings;
+
+    /** The cumulative dish type probabilities. */
+    private final double[] typeThresholds;
+
+    /**
+     * The constructor.
+     *
+     * @param   settings    net.jmp.demo.streams.records.DatasetSettings
+     */
+    public DatasetGenerator(final DatasetSettings settings) {
+        super();
+
+        this.settings = Objects.requireNonNull(settings, () -> "DatasetSettings settings is null");
+        this.typeThresholds = thresholds(DishType.values().length, settings.typeSkew());
+    }
+
+    /**
+     * Return a stream of generated dishes.
+     *
+     * @param   count   long
+     * @return          java.util.stream.Stream&lt;net.jmp.demo.streams.records.Dish&gt;
+     */
+    public Stream<Dish> dishes(final long count) {
+        return LongStream.range(0, count).mapToObj(this::dishAt);
+    }
+
+    /**
+     * Return a list of generated dishes,
+     * built in parallel.
+     *
+     * @param   count   int
+     * @return          java.util.List&lt;net.jmp.demo.streams.records.Dish&gt;
+     */
+    public List<Dish> listOfDishes(final int count) {
+        return list(count, this::dishAt, Dish[]::new);
+    }
+
+    /**
+     * Return a stream of generated money.
+     *
+     * @param   count   long
+     * @return          java.util.stream.Stream&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    public Stream<Money> money(final long count) {
+        return LongStream.range(0, count).mapToObj(this::moneyAt);
+    }
+
+    /**
+     * Return a stream of generated money in which
+     * the null ratio of the elements are null.
+     *
+     * @param   count   long
+     * @return          java.util.stream.Stream&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    public Stream<Money> moneyWithNulls(final long count) {
+        return LongStream.range(0, count).mapToObj(this::moneyOrNull);
+    }
+
+    /**
+     * Return a list of generated money,
+     * built in parallel.
+     *
+     * @param   count   int
+     * @return          java.util.List&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    public List<Money> listOfMoney(final int count) {
+        return list(count, this::moneyAt, Money[]::new);
+    }
+
+    /**
+     * Return a stream of generated albums.
+     *
+     * @param   count   long
+     * @return          java.util.stream.Stream&lt;net.jmp.demo.streams.records.Album&gt;
+     */
+    public Stream<Album> albums(final long count) {
+        return LongStream.range(0, count).mapToObj(this::albumAt);
+    }
+
+    /**
+     * Return a list of generated albums,
+     * built in parallel.
+     *
+     * @param   count   int
+     * @return          java.util.List&lt;net.jmp.demo.streams.records.Album&gt;
+     */
+    public List<Album> listOfAlbums(final int count) {
+        return list(count, this::albumAt, Album[]::new);
+    }
+
+    /**
+     * Return a stream of generated offer trees.
+     *
+     * @param   count   long
+     * @return          java.util.stream.Stream&lt;net.jmp.demo.streams.records.Offer&gt;
+     */
+    public Stream<Offer> offers(final long count) {
+        return LongStream.range(0, count).mapToObj(this::offerAt);
+    }
+
+    /**
+     * Return a list of generated offer
+     * trees, built in parallel.
+     *
+     * @param   count   int
+     * @return          java.util.List&lt;net.jmp.demo.streams.records.Offer&gt;
+     */
+    public List<Offer> listOfOffers(final int count) {
+        return list(count, this::offerAt, Offer[]::new);
+    }
+
+    /**
+     * Return the dish at the index.
+     *
+     * @param   index   long
+     * @return          net.jmp.demo.streams.records.Dish
+     */
+    public Dish dishAt(final long index) {
+        final long key = this.key(index, 0);
+        final DishType type = DishType.values()[this.pick(this.unit(key, TYPE))];
+        final String[] names = DISH_NAMES[type.ordinal()];
+        final String name = names[(int) Math.floorMod(this.hash(key, NAME), (long) names.length)] + " " + key;
+
+        return new Dish(name, type == DishType.OTHER, 100 + (int) Math.floorMod(this.hash(key, VALUE), 800L), type);
+    }
+
+    /**
+     * Return the money at the index.
+     *
+     * @param   index   long
+     * @return          net.jmp.demo.streams.records.Money
+     */
+    public Money moneyAt(final long index) {
+        final long key = this.key(index, 0);
+
+        return new Money(BigDecimal.valueOf(1 + Math.floorMod(this.hash(key, VALUE), 1_000L)),
+                CURRENCIES[(int) Math.floorMod(this.hash(key, CHOICE), (long) CURRENCIES.length)]);
+    }
+
+    /**
+     * Return the album at the index. It has
+     * between one and fan-out artists.
+     *
+     * @param   index   long
+     * @return          net.jmp.demo.streams.records.Album
+     */
+    public Album albumAt(final long index) {
+        final long key = this.key(index, 0);
+        final int fanOut = this.settings.fanOut();
+        final int artistCount = 1 + (int) Math.floorMod(this.hash(key, COUNT), (long) fanOut);
+        final Artist[] artists = new Artist[artistCount];
+
+        for (int i = 0; i < artistCount; i++) {
+            artists[i] = this.artist(this.key(key * fanOut + i, ARTIST));
+        }
+
+        return new Album("Album " + key, 5 + (int) Math.floorMod(this.hash(key, VALUE), 25L), List.of(artists));
+    }
+
+    /**
+     * Return the offer tree at the index. Each
+     * offer has fan-out child offers down to
+     * the configured depth.
+     *
+     * @param   index   long
+     * @return          net.jmp.demo.streams.records.Offer
+     */
+    public Offer offerAt(final long index) {
+        return this.offer(0, index);
+    }
+
+    /**
+     * Return the artist for the key.
+     *
+     * @param   key     long
+     * @return          net.jmp.demo.streams.records.Artist
+     */
+    private Artist artist(final long key) {
+        final boolean associated = this.unit(key, COUNT) < 0.75;
+
+        if (!associated) {
+            return new Artist("Artist " + key, false, List.of());
+        }
+
+        final int first = (int) Math.floorMod(this.hash(key, CHOICE), (long) LABELS.length);
+        final int second = (int) Math.floorMod(this.hash(key, VALUE), (long) LABELS.length);
+
+        return new Artist("Artist " + key,
+                true,
+                first == second ? List.of(LABELS[first]) : List.of(LABELS[first], LABELS[second]));
+    }
+
+    /**
+     * Return the offer at the level of the tree.
+     * Product codes are prefixed P, CP, GP and
+     * then L&lt;level&gt;P by level, and repeat at
+     * the duplicate ratio within each level.
+     *
+     * @param   level   int
+     * @param   ordinal long
+     * @return          net.jmp.demo.streams.records.Offer
+     */
+    private Offer offer(final int level, final long ordinal) {
+        final String prefix = switch (level) {
+            case 0 -> "P";
+            case 1 -> "CP";
+            case 2 -> "GP";
+            default -> "L" + level + "P";
+        };
+
+        final String productCode = prefix + this.key(ordinal, LEVEL + 4 * level);
+
+        if (level == this.settings.depth()) {
+            return new Offer(productCode, List.of());
+        }
+
+        final int fanOut = this.settings.fanOut();
+        final Offer[] children = new Offer[fanOut];
+
+        for (int i = 0; i < fanOut; i++) {
+            children[i] = this.offer(level + 1, ordinal * fanOut + i);
+        }
+
+        return new Offer(productCode, List.of(children));
+    }
+
+    /**
+     * Return the money at the index or
+     * null at the configured null ratio.
+     *
+     * @param   index   long
+     * @return          net.jmp.demo.streams.records.Money
+     */
+    private Money moneyOrNull(final long index) {
+        return this.unit(index, NULL) < this.settings.nullRatio() ? null : this.moneyAt(index);
+    }
+
+    /**
+     * Return the key of the element at the index. At
+     * the duplicate ratio the key is taken from a random
+     * earlier element, which is followed until it leads
+     * to an element that is not itself a duplicate.
+     *
+     * @param   index   long
+     * @param   salt    int
+     * @return          long
+     */
+    private long key(final long index, final int salt) {
+        long key = index;
+
+        while (key > 0 && this.unit(key, salt + DUPLICATE) < this.settings.duplicateRatio()) {
+            key = Math.floorMod(this.hash(key, salt + EARLIER), key);
+        }
+
+        return key;
+    }
+
+    /**
+     * Return the dish type ordinal for
+     * the uniform value.
+     *
+     * @param   unit    double
+     * @return          int
+     */
+    private int pick(final double unit) {
+        for (int i = 0; i < this.typeThresholds.length - 1; i++) {
+            if (unit < this.typeThresholds[i]) {
+                return i;
+            }
+        }
+
+        return this.typeThresholds.length - 1;
+    }
+
+    /**
+     * Return a uniform value in [0, 1)
+     * for the index and salt.
+     *
+     * @param   index   long
+     * @param   salt    int
+     * @return          double
+     */
+    private double unit(final long index, final int salt) {
+        return (this.hash(index, salt) >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Return the hash of the index and salt.
+     *
+     * @param   index   long
+     * @param   salt    int
+     * @return          long
+     */
+    private long hash(final long index, final int salt) {
+        return mix(mix(this.settings.seed() + index * GOLDEN_GAMMA) ^ salt);
+    }
+
+    /**
+     * The SplitMix64 finalizer.
+     *
+     * @param   value   long
+     * @return          long
+     */
+    private static long mix(final long value) {
+        long z = value;
+
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Return the cumulative probabilities of a
+     * Zipf-like distribution over the values.
+     *
+     * @param   values  int
+     * @param   skew    double
+     * @return          double[]
+     */
+    private static double[] thresholds(final int values, final double skew) {
+        final double[] thresholds = new double[values];
+
+        double total = 0.0;
+
+        for (int i = 0; i < values; i++) {
+            total += 1.0 / Math.pow(i + 1, skew);
+            thresholds[i] = total;
+        }
+
+        for (int i = 0; i < values; i++) {
+            thresholds[i] /= total;
+        }
+
+        return thresholds;
+    }
+
+    /**
+     * Build a list of generated elements
+     * by filling an array in parallel.
+     *
+     * @param   <T>         The type of element
+     * @param   count       int
+     * @param   generator   java.util.function.LongFunction&lt;T&gt;
+     * @param   arrayMaker  java.util.function.IntFunction&lt;T[]&gt;
+     * @return              java.util.List&lt;T&gt;
+     */
+    private static <T> List<T> list(final int count, final LongFunction<T> generator, final IntFunction<T[]> arrayMaker) {
+        final T[] array = arrayMaker.apply(count);
+
+        Arrays.parallelSetAll(array, generator::apply);
+
+        return Collections.unmodifiableList(Arrays.asList(array));
+    }
+}
@@ -0,0 +1,218 @@
+package net.jmp.demo.streams.util;
+
+/*
+ * (#)DemoArguments.java    0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.stream.Collectors;
+
+import net.jmp.demo.streams.records.DatasetSettings;
+import net.jmp.demo.streams.records.DemoOptions;
+import net.jmp.demo.streams.records.LoadSettings;
+
+/**
+ * A class that parses the command line arguments
+ * into demo options. Each argument is an option of
+ * the form --name=value:
+ *
+ *   --demos=basics,collectors  the demos to run (the Demo suffix is optional)
+ *   --methods=getDishNames     the no-argument demo methods to run instead of demo()
+ *   --size=1000000             the number of dishes in the demo data
+ *   --parallelism=4            the common fork-join pool parallelism
+ *   --iterations=5             the number of times each demo or method is run
+ *   --mode=parallel            sequential (the default) or parallel dish streams
+ *   --concurrency=4            run that many copies of each demo at once on virtual threads
+ *   --seed=42                  the seed of the generated data
+ *   --skew=1.5                 the dish type skew
+ *   --duplicates=0.1           the duplicate key ratio
+ *   --nulls=0.2                the null money ratio
+ *   --fanout=2                 the album artist and offer tree fan-out
+ *   --depth=2                  the offer tree depth
+ *   --duration=60              run the workloads continuously for that many seconds
+ *   --rate=500                 start that many operations a second (open-loop)
+ *   --workers=8                run that many closed-loop workers when no rate is given
+ */
+public final class DemoArguments {
+    /** The usage message. */
+    public static final String USAGE = "Usage: [--demos=name,...] [--methods=name,...] [--size=n] " +
+            "[--parallelism=n] [--iterations=n] [--mode=sequential|parallel] [--concurrency=n] [--seed=n] [--skew=x] " +
+            "[--duplicates=x] [--nulls=x] [--fanout=n] [--depth=n] [--duration=s] [--rate=n] [--workers=n]";
+
+    /**
+     * The default constructor.
+     */
+    private DemoArguments() {
+        super();
+    }
+
+    /**
+     * Parse the arguments into demo options. Options
+     * that are not given keep their default values.
+     *
+     * @param   args                                    java.lang.String[]
+     * @return                                          net.jmp.demo.streams.records.DemoOptions
+     * @throws  java.lang.IllegalArgumentException      When an argument is not a valid option
+     */
+    public static DemoOptions parse(final String[] args) {
+        Objects.requireNonNull(args, () -> "String[] args is null");
+
+        final DemoOptions defaults = DemoOptions.DEFAULTS;
+
+        Set<String> demos = defaults.demos();
+        Set<String> methods = defaults.methods();
+        int size = defaults.size();
+        int parallelism = defaults.parallelism();
+        int iterations = defaults.iterations();
+        boolean parallel = defaults.parallel();
+        int concurrency = defaults.concurrency();
+        long seed = defaults.dataset().seed();
+        double typeSkew = defaults.dataset().typeSkew();
+        double duplicateRatio = defaults.dataset().duplicateRatio();
+        double nullRatio = defaults.dataset().nullRatio();
+        int fanOut = defaults.dataset().fanOut();
+        int depth = defaults.dataset().depth();
+        int duration = defaults.load().duration();
+        int rate = defaults.load().rate();
+        int workers = defaults.load().workers();
+
+        for (final String arg : args) {
+            final int equals = arg.indexOf('=');
+
+            if (!arg.startsWith("--") || equals < 0) {
+                throw new IllegalArgumentException("Invalid argument: " + arg);
+            }
+
+            final String name = arg.substring(2, equals);
+            final String value = arg.substring(equals + 1);
+
+            switch (name) {
+                case "demos" -> demos = toSet(value);
+                case "methods" -> methods = toSet(value);
+                case "size" -> size = toInt(name, value);
+                case "parallelism" -> parallelism = toInt(name, value);
+                case "iterations" -> iterations = toInt(name, value);
+                case "mode" -> parallel = toParallel(value);
+                case "concurrency" -> concurrency = toInt(name, value);
+                case "seed" -> seed = toLong(name, value);
+                case "skew" -> typeSkew = toDouble(name, value);
+                case "duplicates" -> duplicateRatio = toDouble(name, value);
+                case "nulls" -> nullRatio = toDouble(name, value);
+                case "fanout" -> fanOut = toInt(name, value);
+                case "depth" -> depth = toInt(name, value);
+                case "duration" -> duration = toInt(name, value);
+                case "rate" -> rate = toInt(name, value);
+                case "workers" -> workers = toInt(name, value);
+                default -> throw new IllegalArgumentException("Unknown option: " + name);
+            }
+        }
+
+        final DatasetSettings dataset = new DatasetSettings(seed, typeSkew, duplicateRatio, nullRatio, fanOut, depth);
+
+        final LoadSettings load = new LoadSettings(duration, rate, workers);
+
+        return new DemoOptions(demos, methods, size, parallelism, iterations, parallel, concurrency, dataset, load);
+    }
+
+    /**
+     * Split a comma-separated value into a set
+     * of trimmed, non-empty names.
+     *
+     * @param   value   java.lang.String
+     * @return          java.util.Set&lt;java.lang.String&gt;
+     */
+    private static Set<String> toSet(final String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Parse an integer option value.
+     *
+     * @param   name    java.lang.String
+     * @param   value   java.lang.String
+     * @return          int
+     */
+    private static int toInt(final String name, final String value) {
+        try {
+            return Integer.parseInt(value.replace("_", ""));
+        } catch (final NumberFormatException nfe) {
+            throw new IllegalArgumentException("Option " + name + " is not an integer: " + value, nfe);
+        }
+    }
+
+    /**
+     * Parse a long option value.
+     *
+     * @param   name    java.lang.String
+     * @param   value   java.lang.String
+     * @return          long
+     */
+    private static long toLong(final String name, final String value) {
+        try {
+            return Long.parseLong(value.replace("_", ""));
+        } catch (final NumberFormatException nfe) {
+            throw new IllegalArgumentException("Option " + name + " is not an integer: " + value, nfe);
+        }
+    }
+
+    /**
+     * Parse a decimal option value.
+     *
+     * @param   name    java.lang.String
+     * @param   value   java.lang.String
+     * @return          double
+     */
+    private static double toDouble(final String name, final String value) {
+        try {
+            return Double.parseDouble(value);
+        } catch (final NumberFormatException nfe) {
+            throw new IllegalArgumentException("Option " + name + " is not a number: " + value, nfe);
+        }
+    }
+
+    /**
+     * Parse the mode option value.
+     *
+     * @param   value   java.lang.String
+     * @return          boolean True for parallel
+     */
+    private static boolean toParallel(final String value) {
+        return switch (value) {
+            case "sequential" -> false;
+            case "parallel" -> true;
+            default -> throw new IllegalArgumentException("Mode must be sequential or parallel: " + value);
+        };
+    }
+}
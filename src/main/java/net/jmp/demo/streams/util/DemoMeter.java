@@ -0,0 +1,291 @@
+package net.jmp.demo.streams.util;
+
+/*
+ * (#)DemoMeter.java    0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import net.jmp.demo.streams.demos.Demo;
+
+import net.jmp.demo.streams.records.DemoMetrics;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A class that measures the wall time, CPU time and
+ * allocated bytes of a demo. CPU time and allocation
+ * are taken from the thread MX bean for the calling
+ * thread and, unless disabled, for every live thread,
+ * so that work done on fork-join workers is included.
+ * The JVM does not measure virtual threads, so their
+ * thread values are reported as -1.
+ */
+public final class DemoMeter {
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The thread MX bean. */
+    private final com.sun.management.ThreadMXBean threadMXBean;
+
+    /** True if thread CPU time can be measured. */
+    private final boolean cpuTimeSupported;
+
+    /** True if thread allocation can be measured. */
+    private final boolean allocationSupported;
+
+    /** True if every live thread is measured. */
+    private final boolean allThreads;
+
+    /**
+     * The default constructor. Every
+     * live thread is measured.
+     */
+    public DemoMeter() {
+        this(true);
+    }
+
+    /**
+     * A constructor that chooses whether every live
+     * thread is measured. Measurements that overlap
+     * in time should not measure every thread, as
+     * each would include the work of the others.
+     *
+     * @param   allThreads  boolean
+     */
+    public DemoMeter(final boolean allThreads) {
+        super();
+
+        this.allThreads = allThreads;
+
+        this.threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        this.cpuTimeSupported = this.threadMXBean.isThreadCpuTimeSupported();
+        this.allocationSupported = this.threadMXBean.isThreadAllocatedMemorySupported();
+
+        if (this.cpuTimeSupported && !this.threadMXBean.isThreadCpuTimeEnabled()) {
+            this.threadMXBean.setThreadCpuTimeEnabled(true);
+        }
+
+        if (this.allocationSupported && !this.threadMXBean.isThreadAllocatedMemoryEnabled()) {
+            this.threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    /**
+     * Run the demo once and return its metrics.
+     *
+     * @param   demo    net.jmp.demo.streams.demos.Demo
+     * @return          net.jmp.demo.streams.records.DemoMetrics
+     */
+    public DemoMetrics measure(final Demo demo) {
+        Objects.requireNonNull(demo, () -> "Demo demo is null");
+
+        return this.measure(demo.getClass().getSimpleName(), 0, 1, demo::demo);
+    }
+
+    /**
+     * Run the work and return its metrics.
+     *
+     * @param   name        java.lang.String
+     * @param   copy        int
+     * @param   iteration   int
+     * @param   work        java.lang.Runnable
+     * @return              net.jmp.demo.streams.records.DemoMetrics
+     */
+    public DemoMetrics measure(final String name, final int copy, final int iteration, final Runnable work) {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(name, copy, iteration, work));
+        }
+
+        Objects.requireNonNull(name, () -> "String name is null");
+        Objects.requireNonNull(work, () -> "Runnable work is null");
+
+        final long[] gcBefore = this.gcTotals();
+        final Map<Long, Long> cpuBefore = this.allThreadsCpuTime();
+        final Map<Long, Long> allocatedBefore = this.allThreadsAllocatedBytes();
+        final long threadCpuBefore = this.threadCpuTime();
+        final long threadAllocatedBefore = this.threadAllocatedBytes();
+        final long start = System.nanoTime();
+
+        work.run();
+
+        final long wallNanos = System.nanoTime() - start;
+        final long threadAllocatedAfter = this.threadAllocatedBytes();
+        final long threadCpuAfter = this.threadCpuTime();
+        final Map<Long, Long> allocatedAfter = this.allThreadsAllocatedBytes();
+        final Map<Long, Long> cpuAfter = this.allThreadsCpuTime();
+        final long[] gcAfter = this.gcTotals();
+
+        final DemoMetrics metrics = new DemoMetrics(
+                name,
+                copy,
+                iteration,
+                wallNanos,
+                difference(threadCpuBefore, threadCpuAfter),
+                this.cpuTimeSupported && this.allThreads ? delta(cpuBefore, cpuAfter) : -1,
+                difference(threadAllocatedBefore, threadAllocatedAfter),
+                this.allocationSupported && this.allThreads ? delta(allocatedBefore, allocatedAfter) : -1,
+                gcAfter[0] - gcBefore[0],
+                gcAfter[1] - gcBefore[1]
+        );
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(metrics));
+        }
+
+        return metrics;
+    }
+
+    /**
+     * Return the CPU time of the current
+     * thread, or -1 if it is not measured.
+     *
+     * @return  long
+     */
+    private long threadCpuTime() {
+        return this.cpuTimeSupported ? this.threadMXBean.getCurrentThreadCpuTime() : -1;
+    }
+
+    /**
+     * Return the bytes allocated by the current
+     * thread, or -1 if they are not measured.
+     *
+     * @return  long
+     */
+    private long threadAllocatedBytes() {
+        return this.allocationSupported ? this.threadMXBean.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * Return the CPU time of every live thread keyed by thread ID.
+     *
+     * @return  java.util.Map&lt;java.lang.Long, java.lang.Long&gt;
+     */
+    private Map<Long, Long> allThreadsCpuTime() {
+        if (!this.cpuTimeSupported || !this.allThreads) {
+            return Map.of();
+        }
+
+        final long[] ids = this.threadMXBean.getAllThreadIds();
+
+        return toMap(ids, this.threadMXBean.getThreadCpuTime(ids));
+    }
+
+    /**
+     * Return the bytes allocated by every live thread keyed by thread ID.
+     *
+     * @return  java.util.Map&lt;java.lang.Long, java.lang.Long&gt;
+     */
+    private Map<Long, Long> allThreadsAllocatedBytes() {
+        if (!this.allocationSupported || !this.allThreads) {
+            return Map.of();
+        }
+
+        final long[] ids = this.threadMXBean.getAllThreadIds();
+
+        return toMap(ids, this.threadMXBean.getThreadAllocatedBytes(ids));
+    }
+
+    /**
+     * Return the total collection count and
+     * collection time of all garbage collectors.
+     *
+     * @return  long[]
+     */
+    private long[] gcTotals() {
+        final long[] totals = new long[2];
+
+        for (final GarbageCollectorMXBean gcBean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            totals[0] += Math.max(0, gcBean.getCollectionCount());
+            totals[1] += Math.max(0, gcBean.getCollectionTime());
+        }
+
+        return totals;
+    }
+
+    /**
+     * Map the thread IDs to their values. Threads
+     * that died, reported as -1, are left out.
+     *
+     * @param   ids     long[]
+     * @param   values  long[]
+     * @return          java.util.Map&lt;java.lang.Long, java.lang.Long&gt;
+     */
+    private static Map<Long, Long> toMap(final long[] ids, final long[] values) {
+        final Map<Long, Long> map = new HashMap<>(ids.length * 2);
+
+        for (int i = 0; i < ids.length; i++) {
+            if (values[i] >= 0) {
+                map.put(ids[i], values[i]);
+            }
+        }
+
+        return map;
+    }
+
+    /**
+     * Return the increase from before to after,
+     * or -1 if either was not measured.
+     *
+     * @param   before  long
+     * @param   after   long
+     * @return          long
+     */
+    private static long difference(final long before, final long after) {
+        return before < 0 || after < 0 ? -1 : after - before;
+    }
+
+    /**
+     * Return the sum of the per-thread increases.
+     * A thread started during the demo counts in
+     * full; a thread that ended during the demo
+     * is lost.
+     *
+     * @param   before  java.util.Map&lt;java.lang.Long, java.lang.Long&gt;
+     * @param   after   java.util.Map&lt;java.lang.Long, java.lang.Long&gt;
+     * @return          long
+     */
+    private static long delta(final Map<Long, Long> before, final Map<Long, Long> after) {
+        long total = 0;
+
+        for (final Map.Entry<Long, Long> entry : after.entrySet()) {
+            total += entry.getValue() - before.getOrDefault(entry.getKey(), 0L);
+        }
+
+        return total;
+    }
+}
@@ -0,0 +1,312 @@
+package net.jmp.demo.streams.util;
+
+/*
+ * (#)DemoReport.java   0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import java.util.concurrent.ForkJoinPool;
+
+import java.util.stream.Collectors;
+
+import net.jmp.demo.streams.records.DemoMetrics;
+import net.jmp.demo.streams.records.DemoOptions;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A report of demo metrics. It logs a summary
+ * table and writes a JSON document that also
+ * records the JVM, its flags and its garbage
+ * collectors so that runs on different JDK
+ * builds and settings can be compared.
+ */
+public final class DemoReport {
+    /** The summary table row format. */
+    private static final String ROW_FORMAT = "%-40s %5s %5s %12s %12s %12s %14s %14s %6s %8s";
+
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The options the demos ran with. */
+    private final DemoOptions options;
+
+    /** The metrics. */
+    private final List<DemoMetrics> metrics;
+
+    /** The load report, or null if load mode was not used. */
+    private final LoadReport load;
+
+    /**
+     * The constructor.
+     *
+     * @param   options net.jmp.demo.streams.records.DemoOptions
+     * @param   metrics java.util.List&lt;net.jmp.demo.streams.records.DemoMetrics&gt;
+     */
+    public DemoReport(final DemoOptions options, final List<DemoMetrics> metrics) {
+        this(options, metrics, null);
+    }
+
+    /**
+     * A constructor that includes
+     * the report of a load run.
+     *
+     * @param   options net.jmp.demo.streams.records.DemoOptions
+     * @param   metrics java.util.List&lt;net.jmp.demo.streams.records.DemoMetrics&gt;
+     * @param   load    net.jmp.demo.streams.util.LoadReport
+     */
+    public DemoReport(final DemoOptions options, final List<DemoMetrics> metrics, final LoadReport load) {
+        super();
+
+        this.options = Objects.requireNonNull(options, () -> "DemoOptions options is null");
+        this.metrics = List.copyOf(Objects.requireNonNull(metrics, () -> "List<DemoMetrics> metrics is null"));
+        this.load = load;
+    }
+
+    /**
+     * Log the summary table at the info level.
+     */
+    public void logSummary() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info(String.format(ROW_FORMAT,
+                    "Demo", "Copy", "Iter", "Wall ms", "CPU ms", "All CPU ms", "Alloc KB", "All alloc KB", "GCs", "GC ms"));
+
+            for (final DemoMetrics demoMetrics : this.metrics) {
+                this.logger.info(String.format(ROW_FORMAT,
+                        demoMetrics.name(),
+                        demoMetrics.copy(),
+                        demoMetrics.iteration(),
+                        millis(demoMetrics.wallNanos()),
+                        millis(demoMetrics.threadCpuNanos()),
+                        millis(demoMetrics.allThreadsCpuNanos()),
+                        kilobytes(demoMetrics.threadAllocatedBytes()),
+                        kilobytes(demoMetrics.allThreadsAllocatedBytes()),
+                        demoMetrics.gcCount(),
+                        demoMetrics.gcMillis()));
+            }
+        }
+
+        if (this.load != null) {
+            this.load.logSummary();
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /**
+     * Write the report as JSON to the file,
+     * creating the parent directories.
+     *
+     * @param   file                    java.nio.file.Path
+     * @throws  java.io.IOException     When the file cannot be written
+     */
+    public void writeJson(final Path file) throws IOException {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entryWith(file));
+        }
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+
+        Files.writeString(file, this.toJson());
+
+        this.logger.info("Demo report written to {}", file);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /**
+     * Return the report as a JSON document.
+     *
+     * @return  java.lang.String
+     */
+    public String toJson() {
+        final StringBuilder sb = new StringBuilder(1_024);
+
+        final String inputArguments = ManagementFactory.getRuntimeMXBean().getInputArguments().stream()
+                .map(DemoReport::quote)
+                .collect(Collectors.joining(", ", "[", "]"));
+        final String garbageCollectors = ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .map(GarbageCollectorMXBean::getName)
+                .map(DemoReport::quote)
+                .collect(Collectors.joining(", ", "[", "]"));
+
+        sb.append("{\n");
+        sb.append("  \"javaVersion\": ").append(quote(System.getProperty("java.version"))).append(",\n");
+        sb.append("  \"vmName\": ").append(quote(System.getProperty("java.vm.name"))).append(",\n");
+        sb.append("  \"vmVersion\": ").append(quote(System.getProperty("java.vm.version"))).append(",\n");
+        sb.append("  \"availableProcessors\": ").append(Runtime.getRuntime().availableProcessors()).append(",\n");
+        sb.append("  \"commonPoolParallelism\": ").append(ForkJoinPool.getCommonPoolParallelism()).append(",\n");
+        sb.append("  \"maxHeapBytes\": ").append(Runtime.getRuntime().maxMemory()).append(",\n");
+        sb.append("  \"garbageCollectors\": ").append(garbageCollectors).append(",\n");
+        sb.append("  \"inputArguments\": ").append(inputArguments).append(",\n");
+        sb.append("  \"options\": {")
+                .append("\"demos\": ").append(jsonArray(this.options.demos()))
+                .append(", \"methods\": ").append(jsonArray(this.options.methods()))
+                .append(", \"size\": ").append(this.options.size())
+                .append(", \"parallelism\": ").append(this.options.parallelism())
+                .append(", \"iterations\": ").append(this.options.iterations())
+                .append(", \"mode\": ").append(quote(this.options.parallel() ? "parallel" : "sequential"))
+                .append(", \"concurrency\": ").append(this.options.concurrency())
+                .append(", \"seed\": ").append(this.options.dataset().seed())
+                .append(", \"typeSkew\": ").append(this.options.dataset().typeSkew())
+                .append(", \"duplicateRatio\": ").append(this.options.dataset().duplicateRatio())
+                .append(", \"nullRatio\": ").append(this.options.dataset().nullRatio())
+                .append(", \"fanOut\": ").append(this.options.dataset().fanOut())
+                .append(", \"depth\": ").append(this.options.dataset().depth())
+                .append("},\n");
+        sb.append("  \"demos\": [");
+
+        for (int i = 0; i < this.metrics.size(); i++) {
+            final DemoMetrics demoMetrics = this.metrics.get(i);
+
+            sb.append(i == 0 ? "\n" : ",\n");
+            sb.append("    {")
+                    .append("\"name\": ").append(quote(demoMetrics.name()))
+                    .append(", \"copy\": ").append(demoMetrics.copy())
+                    .append(", \"iteration\": ").append(demoMetrics.iteration())
+                    .append(", \"wallNanos\": ").append(demoMetrics.wallNanos())
+                    .append(", \"threadCpuNanos\": ").append(demoMetrics.threadCpuNanos())
+                    .append(", \"allThreadsCpuNanos\": ").append(demoMetrics.allThreadsCpuNanos())
+                    .append(", \"threadAllocatedBytes\": ").append(demoMetrics.threadAllocatedBytes())
+                    .append(", \"allThreadsAllocatedBytes\": ").append(demoMetrics.allThreadsAllocatedBytes())
+                    .append(", \"gcCount\": ").append(demoMetrics.gcCount())
+                    .append(", \"gcMillis\": ").append(demoMetrics.gcMillis())
+                    .append('}');
+        }
+
+        sb.append("\n  ]");
+
+        if (this.load != null) {
+            sb.append(",\n  \"load\": ");
+
+            this.load.appendJson(sb, "  ");
+        }
+
+        sb.append("\n}\n");
+
+        return sb.toString();
+    }
+
+    /**
+     * Return the names as a sorted JSON array.
+     *
+     * @param   names   java.util.Set&lt;java.lang.String&gt;
+     * @return          java.lang.String
+     */
+    private static String jsonArray(final Set<String> names) {
+        return names.stream()
+                .sorted()
+                .map(DemoReport::quote)
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+
+    /**
+     * Return nanoseconds as milliseconds
+     * with three decimals, or n/a.
+     *
+     * @param   nanos   long
+     * @return          java.lang.String
+     */
+    private static String millis(final long nanos) {
+        return nanos < 0 ? "n/a" : String.format("%.3f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Return bytes as kilobytes
+     * with one decimal, or n/a.
+     *
+     * @param   bytes   long
+     * @return          java.lang.String
+     */
+    private static String kilobytes(final long bytes) {
+        return bytes < 0 ? "n/a" : String.format("%.1f", bytes / 1_024.0);
+    }
+
+    /**
+     * Return the string as a quoted
+     * and escaped JSON string.
+     *
+     * @param   string  java.lang.String
+     * @return          java.lang.String
+     */
+    static String quote(final String string) {
+        if (string == null) {
+            return "null";
+        }
+
+        final StringBuilder sb = new StringBuilder(string.length() + 2);
+
+        sb.append('"');
+
+        for (final char c : string.toCharArray()) {
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+
+        sb.append('"');
+
+        return sb.toString();
+    }
+}
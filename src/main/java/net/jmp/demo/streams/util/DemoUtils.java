@@ -1,11 +1,12 @@
 package net.jmp.demo.streams.util;
 
 /*
+ * (#)DemoUtils.java    0.14.0  10/17/2026
  * (#)DemoUtils.java    0.4.0   08/30/2024
  * (#)DemoUtils.java    0.3.0   08/29/2024
  *
  * @author   Jonathan Parker
- * @version  0.4.0
+ * @version  0.14.0
  * @since    0.3.0
  *
  * MIT License
@@ -31,12 +32,12 @@ package net.jmp.demo.streams.util;
  * SOFTWARE.
  */
 
-import net.jmp.demo.streams.records.Dish;
-import net.jmp.demo.streams.records.DishType;
+import net.jmp.demo.streams.records.*;
 
 import java.lang.reflect.Array;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -46,6 +47,9 @@ import java.util.stream.Stream;
  * Demo utilities.
  */
 public final class DemoUtils {
+    /** The demo options that size the dish data and choose the stream mode. */
+    private static volatile DemoOptions options = DemoOptions.DEFAULTS;
+
     /**
      * The default constructor.
      */
@@ -54,11 +58,131 @@ public final class DemoUtils {
     }
 
     /**
-     * Method to return a list of dishes.
+     * Set the demo options used by the dish methods.
+     *
+     * @param   demoOptions net.jmp.demo.streams.records.DemoOptions
+     */
+    public static void configure(final DemoOptions demoOptions) {
+        options = Objects.requireNonNull(demoOptions, () -> "DemoOptions demoOptions is null");
+    }
+
+    /**
+     * Return the demo options used by the dish methods.
+     *
+     * @return  net.jmp.demo.streams.records.DemoOptions
+     */
+    public static DemoOptions options() {
+        return options;
+    }
+
+    /**
+     * Method to return a list of dishes. When the
+     * options set a size the dishes are generated.
      *
      * @return  java.util.List&lt;net.jmp.demo.streams.records.Dish&gt;
      */
     public static List<Dish> listOfDishes() {
+        final int size = options.size();
+
+        return size == 0 ? menu() : generator().listOfDishes(size);
+    }
+
+    /**
+     * Method to return a stream of dishes. When the
+     * options set a size the dishes are generated as
+     * the stream is consumed. The stream is parallel
+     * when the options ask for it.
+     *
+     * @return  java.util.stream.Stream&lt;net.jmp.demo.streams.records.Dish&gt;
+     */
+    public static Stream<Dish> streamOfDishes() {
+        final int size = options.size();
+
+        return mode(size == 0 ? builtInStreamOfDishes() : generator().dishes(size));
+    }
+
+    /**
+     * Return a stream of generated money
+     * sized by the options.
+     *
+     * @return  java.util.stream.Stream&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    public static Stream<Money> generatedMoney() {
+        return mode(generator().money(options.size()));
+    }
+
+    /**
+     * Return a stream of generated money with
+     * nulls sized by the options.
+     *
+     * @return  java.util.stream.Stream&lt;net.jmp.demo.streams.records.Money&gt;
+     */
+    public static Stream<Money> generatedMoneyWithNulls() {
+        return mode(generator().moneyWithNulls(options.size()));
+    }
+
+    /**
+     * Return a stream of generated albums
+     * sized by the options.
+     *
+     * @return  java.util.stream.Stream&lt;net.jmp.demo.streams.records.Album&gt;
+     */
+    public static Stream<Album> generatedAlbums() {
+        return mode(generator().albums(options.size()));
+    }
+
+    /**
+     * Return a stream of generated offer
+     * trees sized by the options.
+     *
+     * @return  java.util.stream.Stream&lt;net.jmp.demo.streams.records.Offer&gt;
+     */
+    public static Stream<Offer> generatedOffers() {
+        return mode(generator().offers(options.size()));
+    }
+
+    /**
+     * Return a stream of the collection that is
+     * parallel when the options ask for it.
+     *
+     * @param   <T>         The type of element in the collection
+     * @param   collection  java.util.Collection&lt;T&gt;
+     * @return              java.util.stream.Stream&lt;T&gt;
+     */
+    public static <T> Stream<T> stream(final Collection<T> collection) {
+        Objects.requireNonNull(collection, () -> "Collection<T> collection is null");
+
+        return options.parallel() ? collection.parallelStream() : collection.stream();
+    }
+
+    /**
+     * Return a generator for the dataset
+     * settings of the options.
+     *
+     * @return  net.jmp.demo.streams.util.DatasetGenerator
+     */
+    private static DatasetGenerator generator() {
+        return new DatasetGenerator(options.dataset());
+    }
+
+    /**
+     * Make the stream parallel when
+     * the options ask for it.
+     *
+     * @param   <T>     The type of element in the stream
+     * @param   stream  java.util.stream.Stream&lt;T&gt;
+     * @return          java.util.stream.Stream&lt;T&gt;
+     */
+    private static <T> Stream<T> mode(final Stream<T> stream) {
+        return options.parallel() ? stream.parallel() : stream;
+    }
+
+    /**
+     * Method to return the built-in menu.
+     *
+     * @return  java.util.List&lt;net.jmp.demo.streams.records.Dish&gt;
+     */
+    private static List<Dish> menu() {
         return Arrays.asList(
                 new Dish("pork", false, 800, DishType.MEAT),
                 new Dish("beef", false, 700, DishType.MEAT),
@@ -72,11 +196,11 @@ public final class DemoUtils {
     }
 
     /**
-     * Method to return a stream of dishes.
+     * Method to return the built-in menu as a stream.
      *
      * @return  java.util.stream.Stream&lt;net.jmp.demo.streams.records.Dish&gt;
      */
-    public static Stream<Dish> streamOfDishes() {
+    private static Stream<Dish> builtInStreamOfDishes() {
         final Stream.Builder<Dish> builder = Stream.builder();
 
         builder.accept(new Dish("pork", false, 800, DishType.MEAT));
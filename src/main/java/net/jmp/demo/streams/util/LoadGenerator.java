@@ -0,0 +1,336 @@
+package net.jmp.demo.streams.util;
+
+/*
+ * (#)LoadGenerator.java    0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.*;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.concurrent.locks.LockSupport;
+
+import net.jmp.demo.streams.demos.Demo;
+
+import net.jmp.demo.streams.records.LoadInterval;
+import net.jmp.demo.streams.records.LoadResult;
+import net.jmp.demo.streams.records.LoadSettings;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A load generator that drives demo workloads for
+ * a fixed duration, either open-loop at a target
+ * rate or closed-loop with a number of workers, and
+ * records their latencies. Every operation runs on
+ * a virtual thread and runs the next workload in
+ * turn. The throughput and latency percentiles are
+ * logged once a second.
+ */
+public final class LoadGenerator {
+    /** The reporting interval in nanoseconds. */
+    private static final long INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The load settings. */
+    private final LoadSettings settings;
+
+    /** The workload names. */
+    private final List<String> names;
+
+    /** The workloads in name order. */
+    private final List<Demo> workloads;
+
+    /** The latencies of each workload in name order. */
+    private final List<LatencyHistogram> histograms;
+
+    /** The errors of each workload in name order. */
+    private final List<LongAdder> errors;
+
+    /** The latencies of all workloads. */
+    private final LatencyHistogram total = new LatencyHistogram();
+
+    /** The latencies of the current reporting interval. */
+    private final AtomicReference<LatencyHistogram> interval = new AtomicReference<>(new LatencyHistogram());
+
+    /** The completed reporting intervals. */
+    private final List<LoadInterval> intervals = Collections.synchronizedList(new ArrayList<>());
+
+    /** The number of operations started, used to choose the next workload. */
+    private final AtomicLong started = new AtomicLong();
+
+    /** The report of the last run. */
+    private LoadReport report;
+
+    /** The start of the run. */
+    private long startNanos;
+
+    /** The end of the last reporting interval. */
+    private long intervalStartNanos;
+
+    /**
+     * The constructor.
+     *
+     * @param   settings    net.jmp.demo.streams.records.LoadSettings
+     * @param   workloads   java.util.Map&lt;java.lang.String, net.jmp.demo.streams.demos.Demo&gt;
+     */
+    public LoadGenerator(final LoadSettings settings, final Map<String, Demo> workloads) {
+        super();
+
+        this.settings = Objects.requireNonNull(settings, () -> "LoadSettings settings is null");
+
+        Objects.requireNonNull(workloads, () -> "Map<String, Demo> workloads is null");
+
+        if (workloads.isEmpty()) {
+            throw new IllegalArgumentException("There are no workloads");
+        }
+
+        this.names = List.copyOf(workloads.keySet());
+        this.workloads = List.copyOf(workloads.values());
+        this.histograms = this.names.stream().map(_ -> new LatencyHistogram()).toList();
+        this.errors = this.names.stream().map(_ -> new LongAdder()).toList();
+    }
+
+    /**
+     * Run the load for the configured duration, wait
+     * for the outstanding operations and build the
+     * report. A generator is run once.
+     */
+    public void run() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        this.logger.info("Running {} workload(s) for {}s {}",
+                this.names.size(),
+                this.settings.duration(),
+                this.settings.rate() > 0
+                        ? "open-loop at " + this.settings.rate() + " ops/s"
+                        : "closed-loop with " + this.settings.workers() + " worker(s)");
+
+        final ScheduledExecutorService reporter = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().daemon().name("load-reporter").factory());
+
+        this.startNanos = System.nanoTime();
+        this.intervalStartNanos = this.startNanos;
+
+        final long endNanos = this.startNanos + TimeUnit.SECONDS.toNanos(this.settings.duration());
+
+        reporter.scheduleAtFixedRate(this::endInterval, INTERVAL_NANOS, INTERVAL_NANOS, TimeUnit.NANOSECONDS);
+
+        try (final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            if (this.settings.rate() > 0) {
+                this.openLoop(executor, endNanos);
+            } else {
+                this.closedLoop(executor, endNanos);
+            }
+        } finally {
+            reporter.shutdownNow();
+        }
+
+        final long elapsedNanos = System.nanoTime() - this.startNanos;
+
+        this.endInterval();
+
+        final List<LoadResult> results = new ArrayList<>();
+
+        for (int i = 0; i < this.names.size(); i++) {
+            results.add(result(this.names.get(i), this.histograms.get(i), this.errors.get(i).sum(), elapsedNanos));
+        }
+
+        results.add(result("All workloads", this.total, this.errors.stream().mapToLong(LongAdder::sum).sum(), elapsedNanos));
+
+        this.report = new LoadReport(this.settings, results, List.copyOf(this.intervals));
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /**
+     * Return the report of the run, or
+     * null if it has not been run.
+     *
+     * @return  net.jmp.demo.streams.util.LoadReport
+     */
+    public LoadReport getReport() {
+        return this.report;
+    }
+
+    /**
+     * Start operations on a fixed schedule until the
+     * end. Each operation's latency is measured from
+     * its scheduled start, so a dispatcher or pool
+     * that falls behind shows up as latency.
+     *
+     * @param   executor    java.util.concurrent.ExecutorService
+     * @param   endNanos    long
+     */
+    private void openLoop(final ExecutorService executor, final long endNanos) {
+        final long periodNanos = Math.max(1, INTERVAL_NANOS / this.settings.rate());
+
+        for (long i = 0; ; i++) {
+            final long scheduledNanos = this.startNanos + i * periodNanos;
+
+            if (scheduledNanos - endNanos >= 0) {
+                break;
+            }
+
+            long waitNanos;
+
+            while ((waitNanos = scheduledNanos - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+
+            executor.submit(() -> this.execute(scheduledNanos));
+        }
+    }
+
+    /**
+     * Start the workers. Each one runs an operation
+     * after another until the end.
+     *
+     * @param   executor    java.util.concurrent.ExecutorService
+     * @param   endNanos    long
+     */
+    private void closedLoop(final ExecutorService executor, final long endNanos) {
+        for (int i = 0; i < this.settings.workers(); i++) {
+            executor.submit(() -> {
+                long now;
+
+                while ((now = System.nanoTime()) - endNanos < 0) {
+                    this.execute(now);
+                }
+            });
+        }
+    }
+
+    /**
+     * Run the next workload and record its latency
+     * from the given start, or count its failure.
+     *
+     * @param   fromNanos   long
+     */
+    private void execute(final long fromNanos) {
+        final int index = (int) (this.started.getAndIncrement() % this.workloads.size());
+
+        try {
+            this.workloads.get(index).demo();
+        } catch (final RuntimeException re) {
+            this.errors.get(index).increment();
+
+            if (this.logger.isDebugEnabled()) {
+                this.logger.debug("{} failed: {}", this.names.get(index), re.toString());
+            }
+
+            return;
+        }
+
+        final long latency = System.nanoTime() - fromNanos;
+
+        this.histograms.get(index).record(latency);
+        this.total.record(latency);
+        this.interval.get().record(latency);
+    }
+
+    /**
+     * End the current reporting interval, log
+     * it and start the next one.
+     */
+    private synchronized void endInterval() {
+        final LatencyHistogram histogram = this.interval.getAndSet(new LatencyHistogram());
+        final long now = System.nanoTime();
+        final long lengthNanos = now - this.intervalStartNanos;
+
+        this.intervalStartNanos = now;
+
+        if (lengthNanos <= 0) {
+            return;
+        }
+
+        final LoadInterval loadInterval = new LoadInterval(
+                (now - this.startNanos) / 1_000_000_000.0,
+                histogram.count(),
+                histogram.count() * 1_000_000_000.0 / lengthNanos,
+                histogram.percentile(50.0),
+                histogram.percentile(99.0),
+                histogram.max()
+        );
+
+        this.intervals.add(loadInterval);
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info(String.format("%8.1fs %10d ops %12.1f ops/s  p50 %10.3f ms  p99 %10.3f ms  max %10.3f ms",
+                    loadInterval.endSeconds(),
+                    loadInterval.operations(),
+                    loadInterval.throughput(),
+                    loadInterval.p50() / 1_000_000.0,
+                    loadInterval.p99() / 1_000_000.0,
+                    loadInterval.max() / 1_000_000.0));
+        }
+    }
+
+    /**
+     * Return the result for the histogram.
+     *
+     * @param   name            java.lang.String
+     * @param   histogram       net.jmp.demo.streams.util.LatencyHistogram
+     * @param   errors          long
+     * @param   elapsedNanos    long
+     * @return                  net.jmp.demo.streams.records.LoadResult
+     */
+    private static LoadResult result(final String name,
+                                     final LatencyHistogram histogram,
+                                     final long errors,
+                                     final long elapsedNanos) {
+        return new LoadResult(
+                name,
+                histogram.count(),
+                errors,
+                elapsedNanos,
+                histogram.percentile(50.0),
+                histogram.percentile(90.0),
+                histogram.percentile(99.0),
+                histogram.percentile(99.9),
+                histogram.max()
+        );
+    }
+}
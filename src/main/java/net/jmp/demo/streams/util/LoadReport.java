@@ -0,0 +1,194 @@
+package net.jmp.demo.streams.util;
+
+/*
+ * (#)LoadReport.java   0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.List;
+import java.util.Objects;
+
+import net.jmp.demo.streams.records.LoadInterval;
+import net.jmp.demo.streams.records.LoadResult;
+import net.jmp.demo.streams.records.LoadSettings;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The report of a load run: the latency percentiles
+ * and throughput of each workload and the throughput
+ * over time. It is logged as a summary table and is
+ * written as part of the demo report.
+ */
+public final class LoadReport {
+    /** The summary table row format. */
+    private static final String ROW_FORMAT = "%-40s %10s %7s %12s %11s %11s %11s %11s %11s";
+
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The load settings. */
+    private final LoadSettings settings;
+
+    /** The results. */
+    private final List<LoadResult> results;
+
+    /** The reporting intervals. */
+    private final List<LoadInterval> intervals;
+
+    /**
+     * The constructor.
+     *
+     * @param   settings    net.jmp.demo.streams.records.LoadSettings
+     * @param   results     java.util.List&lt;net.jmp.demo.streams.records.LoadResult&gt;
+     * @param   intervals   java.util.List&lt;net.jmp.demo.streams.records.LoadInterval&gt;
+     */
+    public LoadReport(final LoadSettings settings, final List<LoadResult> results, final List<LoadInterval> intervals) {
+        super();
+
+        this.settings = Objects.requireNonNull(settings, () -> "LoadSettings settings is null");
+        this.results = List.copyOf(Objects.requireNonNull(results, () -> "List<LoadResult> results is null"));
+        this.intervals = List.copyOf(Objects.requireNonNull(intervals, () -> "List<LoadInterval> intervals is null"));
+    }
+
+    /**
+     * Return the results.
+     *
+     * @return  java.util.List&lt;net.jmp.demo.streams.records.LoadResult&gt;
+     */
+    public List<LoadResult> getResults() {
+        return this.results;
+    }
+
+    /**
+     * Return the reporting intervals.
+     *
+     * @return  java.util.List&lt;net.jmp.demo.streams.records.LoadInterval&gt;
+     */
+    public List<LoadInterval> getIntervals() {
+        return this.intervals;
+    }
+
+    /**
+     * Log the summary table at the info level.
+     * Latencies are in milliseconds.
+     */
+    public void logSummary() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        if (this.logger.isInfoEnabled()) {
+            this.logger.info(String.format(ROW_FORMAT,
+                    "Workload", "Ops", "Errors", "Ops/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "Max ms"));
+
+            for (final LoadResult result : this.results) {
+                this.logger.info(String.format(ROW_FORMAT,
+                        result.name(),
+                        result.operations(),
+                        result.errors(),
+                        String.format("%.1f", result.throughput()),
+                        millis(result.p50()),
+                        millis(result.p90()),
+                        millis(result.p99()),
+                        millis(result.p999()),
+                        millis(result.max())));
+            }
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /**
+     * Append the report as a JSON object.
+     *
+     * @param   sb      java.lang.StringBuilder
+     * @param   indent  java.lang.String
+     */
+    void appendJson(final StringBuilder sb, final String indent) {
+        sb.append("{\n");
+        sb.append(indent).append("  \"duration\": ").append(this.settings.duration())
+                .append(", \"rate\": ").append(this.settings.rate())
+                .append(", \"workers\": ").append(this.settings.workers()).append(",\n");
+        sb.append(indent).append("  \"results\": [");
+
+        for (int i = 0; i < this.results.size(); i++) {
+            final LoadResult result = this.results.get(i);
+
+            sb.append(i == 0 ? "\n" : ",\n");
+            sb.append(indent).append("    {")
+                    .append("\"name\": ").append(DemoReport.quote(result.name()))
+                    .append(", \"operations\": ").append(result.operations())
+                    .append(", \"errors\": ").append(result.errors())
+                    .append(", \"elapsedNanos\": ").append(result.elapsedNanos())
+                    .append(", \"throughput\": ").append(result.throughput())
+                    .append(", \"p50Nanos\": ").append(result.p50())
+                    .append(", \"p90Nanos\": ").append(result.p90())
+                    .append(", \"p99Nanos\": ").append(result.p99())
+                    .append(", \"p999Nanos\": ").append(result.p999())
+                    .append(", \"maxNanos\": ").append(result.max())
+                    .append('}');
+        }
+
+        sb.append('\n').append(indent).append("  ],\n");
+        sb.append(indent).append("  \"intervals\": [");
+
+        for (int i = 0; i < this.intervals.size(); i++) {
+            final LoadInterval interval = this.intervals.get(i);
+
+            sb.append(i == 0 ? "\n" : ",\n");
+            sb.append(indent).append("    {")
+                    .append("\"endSeconds\": ").append(interval.endSeconds())
+                    .append(", \"operations\": ").append(interval.operations())
+                    .append(", \"throughput\": ").append(interval.throughput())
+                    .append(", \"p50Nanos\": ").append(interval.p50())
+                    .append(", \"p99Nanos\": ").append(interval.p99())
+                    .append(", \"maxNanos\": ").append(interval.max())
+                    .append('}');
+        }
+
+        sb.append('\n').append(indent).append("  ]\n");
+        sb.append(indent).append('}');
+    }
+
+    /**
+     * Return nanoseconds as milliseconds
+     * with three decimals.
+     *
+     * @param   nanos   long
+     * @return          java.lang.String
+     */
+    private static String millis(final long nanos) {
+        return String.format("%.3f", nanos / 1_000_000.0);
+    }
+}
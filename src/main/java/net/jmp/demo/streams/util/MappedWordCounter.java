@@ -0,0 +1,132 @@
+package net.jmp.demo.streams.util;
+
+/*
+ * (#)MappedWordCounter.java    0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.io.IOException;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+
+import java.nio.channels.FileChannel;
+
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import java.util.Objects;
+
+import java.util.stream.StreamSupport;
+
+import net.jmp.demo.streams.records.WordCount;
+
+import net.jmp.demo.streams.spliterators.MappedRangeSpliterator;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Counts the words in a text file in parallel without
+ * reading it onto the heap. The file is memory-mapped,
+ * split at white space into byte ranges, and the word
+ * counts of the ranges are combined in file order. The
+ * text must be in an ASCII-compatible encoding such as
+ * UTF-8, and only ASCII white space separates words.
+ * The ranges are counted by a word count engine, which
+ * is the eight-bytes-at-a-time SWAR kernel by default.
+ */
+public final class MappedWordCounter {
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The file. */
+    private final Path file;
+
+    /** The engine that counts the words in each range. */
+    private final WordCountEngine engine;
+
+    /**
+     * A constructor that uses the SWAR engine.
+     *
+     * @param   file    java.nio.file.Path
+     */
+    public MappedWordCounter(final Path file) {
+        this(file, WordCountEngine.SWAR);
+    }
+
+    /**
+     * The constructor.
+     *
+     * @param   file    java.nio.file.Path
+     * @param   engine  net.jmp.demo.streams.util.WordCountEngine
+     */
+    public MappedWordCounter(final Path file, final WordCountEngine engine) {
+        super();
+
+        this.file = Objects.requireNonNull(file, () -> "Path file is null");
+        this.engine = Objects.requireNonNull(engine, () -> "WordCountEngine engine is null");
+    }
+
+    /**
+     * Count the words in the file.
+     *
+     * @return                          long
+     * @throws  java.io.IOException     When the file cannot be mapped
+     */
+    public long countWords() throws IOException {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        WordCount wordCount = WordCount.EMPTY;
+
+        try (final FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ);
+             final Arena arena = Arena.ofShared()) {
+            final long size = channel.size();
+
+            if (size > 0) {
+                final MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, size, arena);
+
+                wordCount = StreamSupport.stream(new MappedRangeSpliterator(segment), true)
+                        .map(this.engine::count)
+                        .reduce(WordCount.EMPTY, WordCount::combine);
+            }
+        }
+
+        this.logger.debug("{}: {} words in {} bytes ({})", this.file, wordCount.words(), wordCount.length(), this.engine);
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exitWith(wordCount.words()));
+        }
+
+        return wordCount.words();
+    }
+}
@@ -1,11 +1,12 @@
 package net.jmp.demo.streams.util;
 
 /*
+ * (#)SplitAndConsumeUtils.java 0.14.0  10/17/2026
  * (#)SplitAndConsumeUtils.java 0.10.0  09/24/2024
  * (#)SplitAndConsumeUtils.java 0.9.0   09/13/2024
  *
  * @author   Jonathan Parker
- * @version  0.10.0
+ * @version  0.14.0
  * @since    0.9.0
  *
  * MIT License
@@ -40,11 +41,13 @@ import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import java.util.function.Consumer;
-import java.util.function.Supplier;
+
+import net.jmp.demo.streams.events.SplitEvent;
+import net.jmp.demo.streams.events.TaskEvent;
 
 import net.jmp.demo.streams.records.TaskAndSpliterator;
 
-import net.jmp.demo.streams.spliterators.AdvanceCounter;
+import net.jmp.demo.streams.spliterators.TelemetrySpliterator;
 
 import static net.jmp.util.logging.LoggerUtils.*;
 
@@ -59,14 +62,20 @@ import org.slf4j.LoggerFactory;
  * @param   <T> The type of element associated with the spliterator
  */
 final class SplitAndConsumeUtils<T> {
+    /** The even splitting strategy name. */
+    private static final String EVENLY = "evenly";
+
+    /** The uneven splitting strategy name. */
+    private static final String UNEVENLY = "unevenly";
+
     /** The logger. */
     private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
 
     /** The spliterator. */
     private final Spliterator<T> spliterator;
 
-    /** The action to perform on elements. */
-    private final Consumer<? super T> action;
+    /** The function that consumes the remaining elements of a split. */
+    private final Consumer<Spliterator<T>> consumer;
 
     /** The batch size. */
     private final long batchSize;
@@ -78,13 +87,13 @@ final class SplitAndConsumeUtils<T> {
      * The constructor.
      *
      * @param   spliterator java.util.Spliterator&lt;T&gt;
-     * @param   action      java.util.function.Consumer&lt;? super T&gt;
+     * @param   consumer    java.util.function.Consumer&lt;java.util.Spliterator&lt;T&gt;&gt;
      */
-    SplitAndConsumeUtils(final Spliterator<T> spliterator, final Consumer<? super T> action) {
+    SplitAndConsumeUtils(final Spliterator<T> spliterator, final Consumer<Spliterator<T>> consumer) {
         super();
 
         this.spliterator = spliterator;
-        this.action = action;
+        this.consumer = consumer;
 
         this.batchSize = this.spliterator.estimateSize() / (ForkJoinPool.getCommonPoolParallelism());
     }
@@ -92,13 +101,10 @@ final class SplitAndConsumeUtils<T> {
     /**
      * Split and consume. This technique evenly
      * distributes the work across the threads.
-     *
-     * @param   supplier    java.util.function.Supplier&lt;? extends T&gt;
-     * @return              T
      */
-    T splitAndConsumeEvenly(final Supplier<? extends T> supplier) {
+    void splitAndConsumeEvenly() {
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entryWith(supplier));
+            this.logger.trace(entry());
         }
 
         this.logClassDebugInfo();
@@ -117,13 +123,15 @@ final class SplitAndConsumeUtils<T> {
 
                 while (currentSpliterator.estimateSize() > this.batchSize &&
                         (newSpliterator = currentSpliterator.trySplit()) != null) {
+                    this.recordSplit(EVENLY, currentSpliterator, newSpliterator);
+
                     spliterators.push(currentSpliterator);
                     currentSpliterator = newSpliterator;
                 }
 
                 totalSplits++;
 
-                this.submitAndSaveTask(forkJoinPool, currentSpliterator);
+                this.submitAndSaveTask(forkJoinPool, currentSpliterator, EVENLY);
             }
 
             this.logger.debug("Total splits: {}", totalSplits);
@@ -133,13 +141,9 @@ final class SplitAndConsumeUtils<T> {
 
         this.waitForTasks();
 
-        final T result = supplier.get();
-
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(exitWith(result));
+            this.logger.trace(exit());
         }
-
-        return result;
     }
 
     /**
@@ -194,6 +198,7 @@ final class SplitAndConsumeUtils<T> {
         while (true) {
             if (currentSpliterator.estimateSize() > this.batchSize &&
                     (newSpliterator = currentSpliterator.trySplit()) != null) {
+                this.recordSplit(UNEVENLY, currentSpliterator, newSpliterator);
                 this.recursivelySplitAndConsumeUnevenly(newSpliterator, forkJoinPool, totalSplits);
             }
 
@@ -202,7 +207,7 @@ final class SplitAndConsumeUtils<T> {
 
         totalSplits.incrementAndGet();
 
-        this.submitAndSaveTask(forkJoinPool, currentSpliterator);
+        this.submitAndSaveTask(forkJoinPool, currentSpliterator, UNEVENLY);
 
         if (this.logger.isTraceEnabled()) {
             this.logger.trace(exit());
@@ -228,22 +233,47 @@ final class SplitAndConsumeUtils<T> {
         }
     }
 
+    /**
+     * Record a split in a flight recorder
+     * event if the event is enabled.
+     *
+     * @param   strategy            java.lang.String
+     * @param   currentSpliterator  java.util.Spliterator&lt;T&gt;
+     * @param   newSpliterator      java.util.Spliterator&lt;T&gt;
+     */
+    private void recordSplit(final String strategy,
+                             final Spliterator<T> currentSpliterator,
+                             final Spliterator<T> newSpliterator) {
+        final SplitEvent event = new SplitEvent();
+
+        if (event.shouldCommit()) {
+            event.strategy = strategy;
+            event.spliterator = currentSpliterator.getClass();
+            event.retainedSize = currentSpliterator.estimateSize();
+            event.splitSize = newSpliterator.estimateSize();
+            event.batchSize = this.batchSize;
+            event.commit();
+        }
+    }
+
     /**
      * Submit a task for the spliterator and save
      * it so that it can be waited on later.
      *
      * @param   forkJoinPool        java.util.concurrent.ForkJoinPool
      * @param   currentSpliterator  java.util.Spliterator&lt;T&gt;
+     * @param   strategy            java.lang.String
      */
     private void submitAndSaveTask(final ForkJoinPool forkJoinPool,
-                                   final Spliterator<T> currentSpliterator) {
+                                   final Spliterator<T> currentSpliterator,
+                                   final String strategy) {
         if (this.logger.isTraceEnabled()) {
-            this.logger.trace(entryWith(forkJoinPool, currentSpliterator));
+            this.logger.trace(entryWith(forkJoinPool, currentSpliterator, strategy));
         }
 
         final TaskAndSpliterator<T> taskAndSpliterator = new TaskAndSpliterator<>(
-                forkJoinPool.submit(() -> currentSpliterator.forEachRemaining(this.action)),
-                spliterator
+                forkJoinPool.submit(() -> this.consume(currentSpliterator, strategy)),
+                currentSpliterator
         );
 
         this.tasksAndSpliterators.push(taskAndSpliterator);
@@ -253,6 +283,42 @@ final class SplitAndConsumeUtils<T> {
         }
     }
 
+    /**
+     * Consume the remaining elements of the spliterator.
+     * When the task event is enabled the consumption is
+     * timed and the elements consumed are taken from the
+     * telemetry spliterator, or else from the estimated size.
+     *
+     * @param   currentSpliterator  java.util.Spliterator&lt;T&gt;
+     * @param   strategy            java.lang.String
+     */
+    private void consume(final Spliterator<T> currentSpliterator, final String strategy) {
+        final TaskEvent event = new TaskEvent();
+
+        if (event.isEnabled()) {
+            final long estimatedSize = currentSpliterator.estimateSize();
+            final long count = currentSpliterator instanceof TelemetrySpliterator<?> telemetry ? telemetry.getElements() : 0;
+
+            event.begin();
+
+            this.consumer.accept(currentSpliterator);
+
+            event.end();
+
+            if (event.shouldCommit()) {
+                event.strategy = strategy;
+                event.spliterator = currentSpliterator.getClass();
+                event.estimatedSize = estimatedSize;
+                event.elements = currentSpliterator instanceof TelemetrySpliterator<?> telemetry
+                        ? telemetry.getElements() - count
+                        : estimatedSize - currentSpliterator.estimateSize();
+                event.commit();
+            }
+        } else {
+            this.consumer.accept(currentSpliterator);
+        }
+    }
+
     /**
      * Wait for the fork-join tasks to complete.
      */
@@ -268,9 +334,9 @@ final class SplitAndConsumeUtils<T> {
 
             taskAndSpliterator.task().join();
 
-            final long count = ((AdvanceCounter) taskAndSpliterator.spliterator()).getCount();
-
-            this.logger.debug("Task advance count: {}", count);
+            if (taskAndSpliterator.spliterator() instanceof TelemetrySpliterator<?> telemetry) {
+                this.logger.debug("Task elements: {}", telemetry.getElements());
+            }
         }
 
         this.logger.debug("End waiting for tasks to finish");
@@ -0,0 +1,273 @@
+package net.jmp.demo.streams.util;
+
+/*
+ * (#)SplitTelemetry.java   0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Spliterator;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import java.util.stream.Collectors;
+
+import net.jmp.demo.streams.records.SplitMetrics;
+
+import net.jmp.demo.streams.spliterators.TelemetrySpliterator;
+
+import static net.jmp.util.logging.LoggerUtils.*;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects the telemetry of every split of a wrapped
+ * spliterator and reports on it in aggregate: the
+ * histograms of elements, queued time and processing
+ * time per split, the busy time of each worker thread,
+ * the load-imbalance ratio of the busiest worker to
+ * the mean, the effective parallelism, and the split
+ * that took longest. These show whether a parallel job
+ * that plateaus is starved of splits, has uneven
+ * splits, or waits for workers to pick them up.
+ */
+public final class SplitTelemetry {
+    /** The logger. */
+    private final Logger logger = LoggerFactory.getLogger(this.getClass().getName());
+
+    /** The metrics of each split in the order reported. */
+    private final Queue<SplitMetrics> splits = new ConcurrentLinkedQueue<>();
+
+    /** The histogram of elements per split. */
+    private final LatencyHistogram elements = new LatencyHistogram();
+
+    /** The histogram of queued nanoseconds per split. */
+    private final LatencyHistogram queuedNanos = new LatencyHistogram();
+
+    /** The histogram of processing nanoseconds per split. */
+    private final LatencyHistogram processingNanos = new LatencyHistogram();
+
+    /**
+     * The default constructor.
+     */
+    public SplitTelemetry() {
+        super();
+    }
+
+    /**
+     * Wrap the spliterator so that the telemetry
+     * of it and of every split of it is collected.
+     *
+     * @param   <T>         The type of element
+     * @param   spliterator java.util.Spliterator&lt;T&gt;
+     * @return              net.jmp.demo.streams.spliterators.TelemetrySpliterator&lt;T&gt;
+     */
+    public <T> TelemetrySpliterator<T> wrap(final Spliterator<T> spliterator) {
+        return new TelemetrySpliterator<>(spliterator, this::record);
+    }
+
+    /**
+     * Return the metrics of each split reported so far.
+     *
+     * @return  java.util.List&lt;net.jmp.demo.streams.records.SplitMetrics&gt;
+     */
+    public List<SplitMetrics> getSplits() {
+        return List.copyOf(this.splits);
+    }
+
+    /**
+     * Return the histogram of elements per split.
+     *
+     * @return  net.jmp.demo.streams.util.LatencyHistogram
+     */
+    public LatencyHistogram getElements() {
+        return this.elements;
+    }
+
+    /**
+     * Return the histogram of queued nanoseconds per split.
+     *
+     * @return  net.jmp.demo.streams.util.LatencyHistogram
+     */
+    public LatencyHistogram getQueuedNanos() {
+        return this.queuedNanos;
+    }
+
+    /**
+     * Return the histogram of processing nanoseconds per split.
+     *
+     * @return  net.jmp.demo.streams.util.LatencyHistogram
+     */
+    public LatencyHistogram getProcessingNanos() {
+        return this.processingNanos;
+    }
+
+    /**
+     * Return the total elements over all splits.
+     *
+     * @return  long
+     */
+    public long totalElements() {
+        return this.splits.stream()
+                .mapToLong(SplitMetrics::elements)
+                .sum();
+    }
+
+    /**
+     * Return the processing nanoseconds
+     * of each worker thread.
+     *
+     * @return  java.util.Map&lt;java.lang.String, java.lang.Long&gt;
+     */
+    public Map<String, Long> busyNanosByThread() {
+        return this.splits.stream()
+                .collect(Collectors.groupingBy(SplitMetrics::thread,
+                        Collectors.summingLong(SplitMetrics::processingNanos)));
+    }
+
+    /**
+     * Return the ratio of the busiest worker's processing
+     * time to the mean over the workers: 1.0 when the
+     * work was spread evenly, and approaching the number
+     * of workers when one worker did all of it. Zero is
+     * returned when nothing has been reported.
+     *
+     * @return  double
+     */
+    public double loadImbalance() {
+        final Map<String, Long> busyNanos = this.busyNanosByThread();
+        final long total = busyNanos.values().stream().mapToLong(Long::longValue).sum();
+
+        if (total == 0) {
+            return 0.0;
+        }
+
+        final long max = busyNanos.values().stream().mapToLong(Long::longValue).max().orElse(0);
+
+        return max / ((double) total / busyNanos.size());
+    }
+
+    /**
+     * Return the total processing time divided by the
+     * time from the first start to the last end, which
+     * is the number of workers that were busy on average.
+     * Zero is returned when nothing has been reported.
+     *
+     * @return  double
+     */
+    public double effectiveParallelism() {
+        final long start = this.splits.stream().mapToLong(SplitMetrics::startNanos).min().orElse(0);
+        final long end = this.splits.stream().mapToLong(SplitMetrics::endNanos).max().orElse(0);
+
+        if (end <= start) {
+            return 0.0;
+        }
+
+        final long busy = this.splits.stream().mapToLong(SplitMetrics::processingNanos).sum();
+
+        return (double) busy / (end - start);
+    }
+
+    /**
+     * Return the split that took longest to
+     * process, the straggler, if any.
+     *
+     * @return  java.util.Optional&lt;net.jmp.demo.streams.records.SplitMetrics&gt;
+     */
+    public Optional<SplitMetrics> straggler() {
+        return this.splits.stream()
+                .max(Comparator.comparingLong(SplitMetrics::processingNanos));
+    }
+
+    /**
+     * Log the aggregate report at the info level.
+     * Times are in microseconds.
+     */
+    public void logSummary() {
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(entry());
+        }
+
+        if (this.logger.isInfoEnabled()) {
+            final Map<String, Long> busyNanos = this.busyNanosByThread();
+
+            this.logger.info("Splits: {}; elements: {}; workers: {}",
+                    this.splits.size(), this.totalElements(), busyNanos.size());
+            this.logger.info(String.format("Load imbalance: %.2f; effective parallelism: %.2f",
+                    this.loadImbalance(), this.effectiveParallelism()));
+            this.logSummary("Elements", this.elements, 1);
+            this.logSummary("Queued us", this.queuedNanos, 1_000);
+            this.logSummary("Processing us", this.processingNanos, 1_000);
+
+            busyNanos.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .forEach(entry -> this.logger.info("Busy us: {}: {}", entry.getKey(), entry.getValue() / 1_000));
+
+            this.straggler().ifPresent(split -> this.logger.info("Straggler: {} elements at depth {} on {}: {} us",
+                    split.elements(), split.depth(), split.thread(), split.processingNanos() / 1_000));
+        }
+
+        if (this.logger.isTraceEnabled()) {
+            this.logger.trace(exit());
+        }
+    }
+
+    /**
+     * Record the metrics of a split.
+     *
+     * @param   split   net.jmp.demo.streams.records.SplitMetrics
+     */
+    private void record(final SplitMetrics split) {
+        this.splits.add(split);
+        this.elements.record(split.elements());
+        this.queuedNanos.record(split.queuedNanos());
+        this.processingNanos.record(split.processingNanos());
+    }
+
+    /**
+     * Log the percentiles of a histogram, each
+     * divided by the unit, on one line.
+     *
+     * @param   name        java.lang.String
+     * @param   histogram   net.jmp.demo.streams.util.LatencyHistogram
+     * @param   unit        long
+     */
+    private void logSummary(final String name, final LatencyHistogram histogram, final long unit) {
+        this.logger.info("{}: p50 {}; p90 {}; p99 {}; max {}",
+                name,
+                histogram.percentile(50) / unit,
+                histogram.percentile(90) / unit,
+                histogram.percentile(99) / unit,
+                histogram.max() / unit);
+    }
+}
@@ -1,10 +1,11 @@
 package net.jmp.demo.streams.util;
 
 /*
+ * (#)SpliteratorUtils.java 0.14.0  10/17/2026
  * (#)SpliteratorUtils.java 0.9.0   09/12/2024
  *
  * @author   Jonathan Parker
- * @version  0.9.0
+ * @version  0.14.0
  * @since    0.9.0
  *
  * MIT License
@@ -30,11 +31,27 @@ package net.jmp.demo.streams.util;
  * SOFTWARE.
  */
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Spliterator;
 
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import net.jmp.demo.streams.spliterators.ChunkSpliterator;
+import net.jmp.demo.streams.spliterators.ConcatSpliterator;
+import net.jmp.demo.streams.spliterators.IntChunkSpliterator;
+
 /**
  * A utility class for spliterators.
  */
@@ -47,20 +64,185 @@ public final class SpliteratorUtils {
     }
 
     /**
-     * Split the work evenly for distribution across the threads.
+     * Split the work evenly for distribution across the
+     * threads and return the result from the supplier.
      *
      * @param   <T>         The type of element in the spliterator
+     * @param   <R>         The type of result
      * @param   spliterator java.util.Spliterator&lt;T&gt;
      * @param   action      java.util.function.Consumer&lt;? super T&gt;
-     * @param   supplier    java.util.function.Supplier&lt;? extends T&gt;
-     * @return              T
+     * @param   supplier    java.util.function.Supplier&lt;? extends R&gt;
+     * @return              R
      */
-    public static <T> T splitAndConsumeEvenly(final Spliterator<T> spliterator,
+    public static <T, R> R splitAndConsumeEvenly(final Spliterator<T> spliterator,
                                                  final Consumer<? super T> action,
-                                                 final Supplier<? extends T> supplier) {
-        final SplitAndConsumeUtils<T> splitAndConsume = new SplitAndConsumeUtils<>(spliterator, action);
+                                                 final Supplier<? extends R> supplier) {
+        final SplitAndConsumeUtils<T> splitAndConsume = new SplitAndConsumeUtils<>(spliterator,
+                remaining -> remaining.forEachRemaining(action));
+
+        splitAndConsume.splitAndConsumeEvenly();
+
+        return supplier.get();
+    }
+
+    /**
+     * Split the work evenly for distribution across
+     * the threads without boxing the elements.
+     *
+     * @param   spliterator java.util.Spliterator.OfInt
+     * @param   action      java.util.function.IntConsumer
+     * @param   supplier    java.util.function.IntSupplier
+     * @return              int
+     */
+    public static int splitAndConsumeIntsEvenly(final Spliterator.OfInt spliterator,
+                                                final IntConsumer action,
+                                                final IntSupplier supplier) {
+        final SplitAndConsumeUtils<Integer> splitAndConsume = new SplitAndConsumeUtils<>(spliterator,
+                remaining -> ((Spliterator.OfInt) remaining).forEachRemaining(action));
+
+        splitAndConsume.splitAndConsumeEvenly();
+
+        return supplier.getAsInt();
+    }
+
+    /**
+     * Split the work evenly for distribution across
+     * the threads without boxing the elements.
+     *
+     * @param   spliterator java.util.Spliterator.OfLong
+     * @param   action      java.util.function.LongConsumer
+     * @param   supplier    java.util.function.LongSupplier
+     * @return              long
+     */
+    public static long splitAndConsumeLongsEvenly(final Spliterator.OfLong spliterator,
+                                                  final LongConsumer action,
+                                                  final LongSupplier supplier) {
+        final SplitAndConsumeUtils<Long> splitAndConsume = new SplitAndConsumeUtils<>(spliterator,
+                remaining -> ((Spliterator.OfLong) remaining).forEachRemaining(action));
+
+        splitAndConsume.splitAndConsumeEvenly();
+
+        return supplier.getAsLong();
+    }
+
+    /**
+     * Split the work evenly for distribution across
+     * the threads without boxing the elements.
+     *
+     * @param   spliterator java.util.Spliterator.OfDouble
+     * @param   action      java.util.function.DoubleConsumer
+     * @param   supplier    java.util.function.DoubleSupplier
+     * @return              double
+     */
+    public static double splitAndConsumeDoublesEvenly(final Spliterator.OfDouble spliterator,
+                                                      final DoubleConsumer action,
+                                                      final DoubleSupplier supplier) {
+        final SplitAndConsumeUtils<Double> splitAndConsume = new SplitAndConsumeUtils<>(spliterator,
+                remaining -> ((Spliterator.OfDouble) remaining).forEachRemaining(action));
+
+        splitAndConsume.splitAndConsumeEvenly();
+
+        return supplier.getAsDouble();
+    }
+
+    /**
+     * Split the work evenly for distribution across the
+     * threads, passing the elements to the action in arrays
+     * of the chunk size, and return the result from the
+     * supplier. The splits fall on chunk boundaries when the
+     * spliterator and its splits are SIZED, as those of a
+     * SUBSIZED spliterator are.
+     *
+     * @param   <T>         The type of element in the spliterator
+     * @param   <R>         The type of result
+     * @param   spliterator java.util.Spliterator&lt;T&gt;
+     * @param   chunkSize   int
+     * @param   generator   java.util.function.IntFunction&lt;T[]&gt;
+     * @param   action      java.util.function.Consumer&lt;? super T[]&gt;
+     * @param   supplier    java.util.function.Supplier&lt;? extends R&gt;
+     * @return              R
+     */
+    public static <T, R> R splitAndConsumeChunksEvenly(final Spliterator<T> spliterator,
+                                                       final int chunkSize,
+                                                       final IntFunction<T[]> generator,
+                                                       final Consumer<? super T[]> action,
+                                                       final Supplier<? extends R> supplier) {
+        return splitAndConsumeEvenly(new ChunkSpliterator<>(spliterator, chunkSize, generator), action, supplier);
+    }
+
+    /**
+     * Split the work evenly for distribution across the
+     * threads, passing the ints to the action in int arrays
+     * of the chunk size, and return the result from the
+     * supplier. The splits fall on chunk boundaries when the
+     * spliterator and its splits are SIZED, as those of a
+     * SUBSIZED spliterator are.
+     *
+     * @param   <R>         The type of result
+     * @param   spliterator java.util.Spliterator.OfInt
+     * @param   chunkSize   int
+     * @param   action      java.util.function.Consumer&lt;? super int[]&gt;
+     * @param   supplier    java.util.function.Supplier&lt;? extends R&gt;
+     * @return              R
+     */
+    public static <R> R splitAndConsumeIntChunksEvenly(final Spliterator.OfInt spliterator,
+                                                       final int chunkSize,
+                                                       final Consumer<? super int[]> action,
+                                                       final Supplier<? extends R> supplier) {
+        return splitAndConsumeEvenly(new IntChunkSpliterator(spliterator, chunkSize), action, supplier);
+    }
+
+    /**
+     * Concatenate the streams into one stream whose
+     * spliterator holds the streams' spliterators in
+     * a flat array, so any number of streams can be
+     * concatenated without nesting Stream.concat().
+     * The stream is parallel if any of the streams is,
+     * and closing it closes all of them.
+     *
+     * @param   <T>     The type of element in the streams
+     * @param   streams java.util.List&lt;? extends java.util.stream.Stream&lt;? extends T&gt;&gt;
+     * @return          java.util.stream.Stream&lt;T&gt;
+     */
+    public static <T> Stream<T> concatAll(final List<? extends Stream<? extends T>> streams) {
+        final List<Spliterator<? extends T>> spliterators = new ArrayList<>(streams.size());
+
+        boolean parallel = false;
+
+        for (final Stream<? extends T> stream : streams) {
+            parallel |= stream.isParallel();
+            spliterators.add(stream.spliterator());
+        }
+
+        return StreamSupport.stream(new ConcatSpliterator<T>(spliterators), parallel)
+                .onClose(() -> closeAll(streams));
+    }
+
+    /**
+     * Close every stream. The first exception thrown
+     * is rethrown after the rest of the streams are
+     * closed, with any later exceptions suppressed.
+     *
+     * @param   streams java.util.List&lt;? extends java.util.stream.Stream&lt;?&gt;&gt;
+     */
+    private static void closeAll(final List<? extends Stream<?>> streams) {
+        RuntimeException exception = null;
 
-        return splitAndConsume.splitAndConsumeEvenly(supplier);
+        for (final Stream<?> stream : streams) {
+            try {
+                stream.close();
+            } catch (final RuntimeException e) {
+                if (exception == null) {
+                    exception = e;
+                } else {
+                    exception.addSuppressed(e);
+                }
+            }
+        }
+
+        if (exception != null) {
+            throw exception;
+        }
     }
 
     /**
@@ -72,7 +254,50 @@ public final class SpliteratorUtils {
      * @param   action      java.util.function.Consumer&lt;? super T&gt;
      */
     public static <T> void splitAndConsumeUnevenly(final Spliterator<T> spliterator, final Consumer<? super T> action) {
-        final SplitAndConsumeUtils<T> splitAndConsume = new SplitAndConsumeUtils<>(spliterator, action);
+        final SplitAndConsumeUtils<T> splitAndConsume = new SplitAndConsumeUtils<>(spliterator,
+                remaining -> remaining.forEachRemaining(action));
+
+        splitAndConsume.splitAndConsumeUnevenly();
+    }
+
+    /**
+     * Split the work unevenly (halving) for distribution
+     * across the threads without boxing the elements.
+     *
+     * @param   spliterator java.util.Spliterator.OfInt
+     * @param   action      java.util.function.IntConsumer
+     */
+    public static void splitAndConsumeIntsUnevenly(final Spliterator.OfInt spliterator, final IntConsumer action) {
+        final SplitAndConsumeUtils<Integer> splitAndConsume = new SplitAndConsumeUtils<>(spliterator,
+                remaining -> ((Spliterator.OfInt) remaining).forEachRemaining(action));
+
+        splitAndConsume.splitAndConsumeUnevenly();
+    }
+
+    /**
+     * Split the work unevenly (halving) for distribution
+     * across the threads without boxing the elements.
+     *
+     * @param   spliterator java.util.Spliterator.OfLong
+     * @param   action      java.util.function.LongConsumer
+     */
+    public static void splitAndConsumeLongsUnevenly(final Spliterator.OfLong spliterator, final LongConsumer action) {
+        final SplitAndConsumeUtils<Long> splitAndConsume = new SplitAndConsumeUtils<>(spliterator,
+                remaining -> ((Spliterator.OfLong) remaining).forEachRemaining(action));
+
+        splitAndConsume.splitAndConsumeUnevenly();
+    }
+
+    /**
+     * Split the work unevenly (halving) for distribution
+     * across the threads without boxing the elements.
+     *
+     * @param   spliterator java.util.Spliterator.OfDouble
+     * @param   action      java.util.function.DoubleConsumer
+     */
+    public static void splitAndConsumeDoublesUnevenly(final Spliterator.OfDouble spliterator, final DoubleConsumer action) {
+        final SplitAndConsumeUtils<Double> splitAndConsume = new SplitAndConsumeUtils<>(spliterator,
+                remaining -> ((Spliterator.OfDouble) remaining).forEachRemaining(action));
 
         splitAndConsume.splitAndConsumeUnevenly();
     }
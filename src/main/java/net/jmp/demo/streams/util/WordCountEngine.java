@@ -0,0 +1,180 @@
+package net.jmp.demo.streams.util;
+
+/*
+ * (#)WordCountEngine.java  0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import java.nio.ByteOrder;
+
+import net.jmp.demo.streams.records.WordCount;
+
+import net.jmp.demo.streams.spliterators.MappedRangeSpliterator;
+
+/**
+ * The kernels that count the words in a range of bytes.
+ * A word is counted at its first byte, which is a byte
+ * that is not white space and either begins the range
+ * or follows white space. Both kernels classify the
+ * same ASCII white space as MappedRangeSpliterator.
+ */
+public enum WordCountEngine {
+    /** Classify one byte at a time. */
+    SCALAR {
+        @Override
+        public WordCount count(final MemorySegment range) {
+            final long length = range.byteSize();
+
+            if (length == 0) {
+                return WordCount.EMPTY;
+            }
+
+            long words = 0;
+            boolean lastSpace = true;
+
+            for (long offset = 0; offset < length; offset++) {
+                final boolean space = MappedRangeSpliterator.isWhitespace(range.get(ValueLayout.JAVA_BYTE, offset));
+
+                if (lastSpace && !space) {
+                    words++;
+                }
+
+                lastSpace = space;
+            }
+
+            return new WordCount(length,
+                    words,
+                    MappedRangeSpliterator.isWhitespace(range.get(ValueLayout.JAVA_BYTE, 0)),
+                    lastSpace);
+        }
+    },
+
+    /**
+     * Classify eight bytes at a time as SIMD within a
+     * register (SWAR): each long read from the range is
+     * turned into a mask with the high bit of every white
+     * space byte set, and the word starts are the bytes
+     * that are not white space but whose predecessor is.
+     */
+    SWAR {
+        @Override
+        public WordCount count(final MemorySegment range) {
+            final long length = range.byteSize();
+
+            if (length == 0) {
+                return WordCount.EMPTY;
+            }
+
+            final long limit = length & ~(Long.BYTES - 1);
+
+            long words = 0;
+            long lastSpace = HIGH_BIT;    // The high bit is set if the previous byte was white space
+
+            for (long offset = 0; offset < limit; offset += Long.BYTES) {
+                final long spaces = whitespace(range.get(LITTLE_ENDIAN_LONG, offset));
+                final long followsSpace = (spaces << Byte.SIZE) | lastSpace;
+
+                words += Long.bitCount(~spaces & followsSpace & HIGH_BITS);
+                lastSpace = spaces >>> (Long.SIZE - Byte.SIZE);
+            }
+
+            for (long offset = limit; offset < length; offset++) {
+                final long space = MappedRangeSpliterator.isWhitespace(range.get(ValueLayout.JAVA_BYTE, offset)) ? HIGH_BIT : 0;
+
+                if (space == 0 && lastSpace != 0) {
+                    words++;
+                }
+
+                lastSpace = space;
+            }
+
+            return new WordCount(length,
+                    words,
+                    MappedRangeSpliterator.isWhitespace(range.get(ValueLayout.JAVA_BYTE, 0)),
+                    lastSpace != 0);
+        }
+    };
+
+    /** A long read in byte order, so that byte 0 of the range is the lowest byte. */
+    private static final ValueLayout.OfLong LITTLE_ENDIAN_LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    /** The value one in every byte of a long. */
+    private static final long ONES = 0x0101010101010101L;
+
+    /** The high bit of every byte of a long. */
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    /** The low seven bits of every byte of a long. */
+    private static final long LOW_BITS = 0x7f7f7f7f7f7f7f7fL;
+
+    /** The high bit of the lowest byte of a long. */
+    private static final long HIGH_BIT = 0x80L;
+
+    /**
+     * Count the words in a range of bytes.
+     *
+     * @param   range   java.lang.foreign.MemorySegment
+     * @return          net.jmp.demo.streams.records.WordCount
+     */
+    public abstract WordCount count(final MemorySegment range);
+
+    /**
+     * Return a mask with the high bit set in every byte
+     * of the word that is white space: 0x09-0x0d,
+     * 0x1c-0x1f, or 0x20. Bytes with the high bit set
+     * are never white space.
+     *
+     * @param   word    long
+     * @return          long
+     */
+    private static long whitespace(final long word) {
+        return between(word, 0x08, 0x0e) | between(word, 0x1b, 0x21);
+    }
+
+    /**
+     * Return a mask with the high bit set in every byte
+     * of the word whose unsigned value lies strictly
+     * between the lower and the upper bound. The bounds
+     * must lie in 0-127 and 0-128 respectively. No
+     * carry or borrow crosses a byte because only the
+     * low seven bits of each byte take part in the sums.
+     *
+     * @param   word    long
+     * @param   lower   int
+     * @param   upper   int
+     * @return          long
+     */
+    private static long between(final long word, final int lower, final int upper) {
+        final long low = word & LOW_BITS;
+
+        return (ONES * (127 + upper) - low) & ~word & (low + ONES * (127 - lower)) & HIGH_BITS;
+    }
+}
@@ -0,0 +1,84 @@
+package net.jmp.demo.streams.collectors;
+
+/*
+ * (#)TestWordCountingCollector.java    0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import net.jmp.demo.streams.records.WordCount;
+
+import net.jmp.demo.streams.util.CollectorsFactory;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestWordCountingCollector {
+    @Test
+    public void testCollect() throws Exception {
+        final WordCount wordCount = "  one two\tthree\n".chars()
+                .mapToObj(c -> (char) c)
+                .collect(CollectorsFactory.countingWords());
+
+        assertEquals(3, wordCount.words());
+        assertTrue(wordCount.leadingSpace());
+        assertTrue(wordCount.trailingSpace());
+        assertEquals(WordCount.EMPTY, Stream.<Character>empty().collect(CollectorsFactory.countingWords()));
+    }
+
+    @Test
+    public void testCombine() throws Exception {
+        final String text = "alpha beta gamma  delta";
+
+        for (int split = 0; split <= text.length(); split++) {
+            final WordCountingCollector.Counter first = new WordCountingCollector.Counter();
+            final WordCountingCollector.Counter second = new WordCountingCollector.Counter();
+
+            text.substring(0, split).chars().forEach(first::accept);
+            text.substring(split).chars().forEach(second::accept);
+
+            assertEquals("Split at " + split, 4, first.combine(second).getWords());
+        }
+    }
+
+    @Test
+    public void testParallel() throws Exception {
+        final String text = "lorem ipsum dolor sit amet ".repeat(10_000);
+
+        // Split anywhere, so words straddle the splits
+
+        final WordCount wordCount = StreamSupport.stream(text.chars().mapToObj(c -> (char) c).spliterator(), true)
+                .collect(CollectorsFactory.countingWords());
+
+        assertEquals(50_000, wordCount.words());
+        assertEquals(text.length(), wordCount.length());
+    }
+}
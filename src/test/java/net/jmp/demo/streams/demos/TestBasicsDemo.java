@@ -1,12 +1,13 @@
 package net.jmp.demo.streams.demos;
 
 /*
+ * (#)TestBasicsDemo.java   0.14.0  10/17/2026
  * (#)TestBasicsDemo.java   0.10.0  09/24/2024
  * (#)TestBasicsDemo.java   0.3.0   08/29/2024
  * (#)TestBasicsDemo.java   0.2.0   08/25/2024
  *
  * @author   Jonathan Parker
- * @version  0.10.0
+ * @version  0.14.0
  * @since    0.2.0
  *
  * MIT License
@@ -394,6 +395,19 @@ public final class TestBasicsDemo {
         assertEquals(6, (long) elements.get(5));
     }
 
+    @Test
+    public void testConcatenateManyStreams() throws Exception {
+        final var method = BasicsDemo.class.getDeclaredMethod("concatenateManyStreams");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(new BasicsDemo());
+        final Long sum = castToType(Long.class, o);
+
+        assertNotNull(sum);
+        assertEquals(500_500L, (long) sum);
+    }
+
     @Test
     public void testPeek() throws Exception {
         final var method = BasicsDemo.class.getDeclaredMethod("peek");
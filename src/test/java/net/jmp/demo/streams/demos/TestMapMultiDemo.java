@@ -1,12 +1,13 @@
 package net.jmp.demo.streams.demos;
 
 /*
+ * (#)TestMapMultiDemo.java 0.14.0  10/17/2026
  * (#)TestMapMultiDemo.java 0.10.0  09/24/2024
  * (#)TestMapMultiDemo.java 0.7.0   09/06/2024
  * (#)TestMapMultiDemo.java 0.6.0   09/05/2024
  *
  * @author   Jonathan Parker
- * @version  0.10.0
+ * @version  0.14.0
  * @since    0.6.0
  *
  * MIT License
@@ -148,6 +149,47 @@ public class TestMapMultiDemo {
         assertEquals(Pair.of("Evgeny Kissin", "New Year's Eve"), list.get(5));
     }
 
+    @Test
+    public void testSplittableArtistAlbumPairs() throws Exception {
+        final var demo = new MapMultiDemo();
+        final var method = MapMultiDemo.class.getDeclaredMethod("splittableArtistAlbumPairs");
+
+        method.setAccessible(true);
+
+        @SuppressWarnings("unchecked")
+        final Stream<Pair<String, String>> pairs = (Stream<Pair<String, String>>) method.invoke(demo);
+
+        final List<Pair<String, String>> list = pairs.toList();
+
+        assertNotNull(list);
+        assertEquals(6, list.size());
+        assertEquals(Pair.of("Colin Davis", "Dvorak Symphonies"), list.get(0));
+        assertEquals(Pair.of("London Symphony Orchestra", "Dvorak Symphonies"), list.get(1));
+        assertEquals(Pair.of("Lucie Horsch", "Baroque Journey"), list.get(2));
+        assertEquals(Pair.of("Hanover Band", "Baroque Journey"), list.get(3));
+        assertEquals(Pair.of("Herbert von Karajan", "New Year's Eve"), list.get(4));
+        assertEquals(Pair.of("Evgeny Kissin", "New Year's Eve"), list.get(5));
+    }
+
+    @Test
+    public void testSplittableArtistAlbumPairsMatchFlatMap() throws Exception {
+        final var demo = new MapMultiDemo();
+        final var splittable = MapMultiDemo.class.getDeclaredMethod("splittableArtistAlbumPairs");
+        final var flatMap = MapMultiDemo.class.getDeclaredMethod("flatMapArtistAlbumPairs");
+
+        splittable.setAccessible(true);
+        flatMap.setAccessible(true);
+
+        @SuppressWarnings("unchecked")
+        final Stream<Pair<String, String>> splittablePairs = (Stream<Pair<String, String>>) splittable.invoke(demo);
+
+        @SuppressWarnings("unchecked")
+        final Stream<Pair<String, String>> flatMapPairs = (Stream<Pair<String, String>>) flatMap.invoke(demo);
+
+        assertTrue(splittablePairs.isParallel());
+        assertEquals(flatMapPairs.toList(), splittablePairs.toList());
+    }
+
     @Test
     public void testMapMultiCopyrightedArtistAlbum() throws Exception {
         final var demo = new MapMultiDemo();
@@ -1,11 +1,12 @@
 package net.jmp.demo.streams.demos;
 
 /*
+ * (#)TestSpliteratorsDemo.java 0.14.0  10/17/2026
  * (#)TestSpliteratorsDemo.java 0.10.0  09/24/2024
  * (#)TestSpliteratorsDemo.java 0.9.0   09/09/2024
  *
  * @author   Jonathan Parker
- * @version  0.10.0
+ * @version  0.14.0
  * @since    0.9.0
  *
  * MIT License
@@ -153,6 +154,48 @@ public final class TestSpliteratorsDemo {
         assertEquals(69, (long) estimateSize);
     }
 
+    @Test
+    public void testCustomCodePointWordSpliterator() throws Exception {
+        final var demo = new SpliteratorsDemo();
+        final var method = SpliteratorsDemo.class.getDeclaredMethod("customCodePointWordSpliterator");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(demo);
+        final Integer words = castToType(Integer.class, o);
+
+        assertNotNull(words);
+        assertEquals(69, (long) words);
+    }
+
+    @Test
+    public void testCustomMappedWordCount() throws Exception {
+        final var demo = new SpliteratorsDemo();
+        final var method = SpliteratorsDemo.class.getDeclaredMethod("customMappedWordCount");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(demo);
+        final Long words = castToType(Long.class, o);
+
+        assertNotNull(words);
+        assertEquals(69, (long) words);
+    }
+
+    @Test
+    public void testCustomMappedLineSpliterator() throws Exception {
+        final var demo = new SpliteratorsDemo();
+        final var method = SpliteratorsDemo.class.getDeclaredMethod("customMappedLineSpliterator");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(demo);
+        final Long errors = castToType(Long.class, o);
+
+        assertNotNull(errors);
+        assertEquals(100, (long) errors);
+    }
+
     @Test
     public void testCustomListSpliteratorUsingForkJoinPoolUnevenly() throws Exception {
         final var demo = new SpliteratorsDemo();
@@ -180,4 +223,88 @@ public final class TestSpliteratorsDemo {
         assertNotNull(estimateSize);
         assertEquals(500_500, (long) estimateSize);
     }
+
+    @Test
+    public void testCustomOfferTreeSpliterator() throws Exception {
+        final var demo = new SpliteratorsDemo();
+        final var method = SpliteratorsDemo.class.getDeclaredMethod("customOfferTreeSpliterator");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(demo);
+        final Long count = castToType(Long.class, o);
+
+        assertNotNull(count);
+        assertEquals(1_000, (long) count);
+    }
+
+    @Test
+    public void testCustomListSpliteratorWithTelemetry() throws Exception {
+        final var demo = new SpliteratorsDemo();
+        final var method = SpliteratorsDemo.class.getDeclaredMethod("customListSpliteratorWithTelemetry");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(demo);
+        final Long sum = castToType(Long.class, o);
+
+        assertNotNull(sum);
+        assertEquals(5_000_050_000L, (long) sum);
+    }
+
+    @Test
+    public void testCustomBatchingSpliteratorUsingForkJoinPoolEvenly() throws Exception {
+        final var demo = new SpliteratorsDemo();
+        final var method = SpliteratorsDemo.class.getDeclaredMethod("customBatchingSpliteratorUsingForkJoinPoolEvenly");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(demo);
+        final Long sum = castToType(Long.class, o);
+
+        assertNotNull(sum);
+        assertEquals(5_000_050_000L, (long) sum);
+    }
+
+    @Test
+    public void testCustomIntArraySpliteratorUsingForkJoinPoolUnevenly() throws Exception {
+        final var demo = new SpliteratorsDemo();
+        final var method = SpliteratorsDemo.class.getDeclaredMethod("customIntArraySpliteratorUsingForkJoinPoolUnevenly");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(demo);
+        final Integer sum = castToType(Integer.class, o);
+
+        assertNotNull(sum);
+        assertEquals(500_500, (long) sum);
+    }
+
+    @Test
+    public void testCustomIntArraySpliteratorUsingForkJoinPoolEvenly() throws Exception {
+        final var demo = new SpliteratorsDemo();
+        final var method = SpliteratorsDemo.class.getDeclaredMethod("customIntArraySpliteratorUsingForkJoinPoolEvenly");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(demo);
+        final Integer sum = castToType(Integer.class, o);
+
+        assertNotNull(sum);
+        assertEquals(500_500, (long) sum);
+    }
+
+    @Test
+    public void testCustomIntChunksUsingForkJoinPoolEvenly() throws Exception {
+        final var demo = new SpliteratorsDemo();
+        final var method = SpliteratorsDemo.class.getDeclaredMethod("customIntChunksUsingForkJoinPoolEvenly");
+
+        method.setAccessible(true);
+
+        final Object o = method.invoke(demo);
+        final Integer sum = castToType(Integer.class, o);
+
+        assertNotNull(sum);
+        assertEquals(500_500, (long) sum);
+    }
 }
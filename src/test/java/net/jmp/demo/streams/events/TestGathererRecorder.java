@@ -0,0 +1,160 @@
+package net.jmp.demo.streams.events;
+
+/*
+ * (#)TestGathererRecorder.java 0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.List;
+
+import jdk.jfr.Recording;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import net.jmp.demo.streams.spliterators.ListSpliterator;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestGathererRecorder {
+    /** The gatherer finish event name. */
+    private static final String GATHERER_FINISH = "net.jmp.demo.streams.GathererFinish";
+
+    /** The try split event name. */
+    private static final String TRY_SPLIT = "net.jmp.demo.streams.TrySplit";
+
+    @Test
+    public void testFinish() throws Exception {
+        final List<RecordedEvent> events = record(GATHERER_FINISH, () -> {
+            final GathererRecorder recorder = new GathererRecorder(String.class);
+
+            recorder.pushed();
+            recorder.pushed();
+            recorder.pushed();
+            recorder.rejected();
+            recorder.rejected(2);
+            recorder.finish(7);
+        });
+
+        assertEquals(1, events.size());
+
+        final RecordedEvent event = events.getFirst();
+
+        assertEquals(String.class.getName(), event.getClass("gatherer").getName());
+        assertEquals(7, event.getLong("stateSize"));
+        assertEquals(3, event.getLong("pushed"));
+        assertEquals(3, event.getLong("rejected"));
+    }
+
+    @Test
+    public void testRecordersAreIndependent() throws Exception {
+        final List<RecordedEvent> events = record(GATHERER_FINISH, () -> {
+            final GathererRecorder first = new GathererRecorder(String.class);
+            final GathererRecorder second = new GathererRecorder(String.class);
+
+            first.pushed();
+            second.pushed();
+            second.pushed();
+            first.finish(1);
+            second.rejected();
+            second.finish(2);
+        });
+
+        assertEquals(2, events.size());
+        assertEquals(1, events.get(0).getLong("pushed"));
+        assertEquals(0, events.get(0).getLong("rejected"));
+        assertEquals(2, events.get(1).getLong("pushed"));
+        assertEquals(1, events.get(1).getLong("rejected"));
+    }
+
+    @Test
+    public void testNotRecordedWhenDisabled() throws Exception {
+        final GathererRecorder recorder = new GathererRecorder(String.class);     // Created before the recording starts
+
+        final List<RecordedEvent> events = record(GATHERER_FINISH, () -> {
+            recorder.pushed();
+            recorder.finish(1);
+        });
+
+        assertTrue(events.isEmpty());
+    }
+
+    @Test
+    public void testTrySplit() throws Exception {
+        final List<RecordedEvent> events = record(TRY_SPLIT, () -> {
+            final ListSpliterator<Integer> spliterator = new ListSpliterator<>(List.of(1, 2, 3, 4, 5, 6));
+
+            assertNotNull(spliterator.trySplit());
+        });
+
+        assertEquals(1, events.size());
+
+        final RecordedEvent event = events.getFirst();
+
+        assertTrue(event.getBoolean("split"));
+        assertEquals(6, event.getLong("size"));
+        assertEquals(3, event.getLong("retainedSize"));
+        assertEquals(3, event.getLong("splitSize"));
+    }
+
+    /**
+     * Run the action during a recording of the
+     * named event and return the events recorded.
+     *
+     * @param   name        java.lang.String
+     * @param   action      java.lang.Runnable
+     * @return              java.util.List&lt;jdk.jfr.consumer.RecordedEvent&gt;
+     * @throws  Exception   When the recording cannot be written or read
+     */
+    private static List<RecordedEvent> record(final String name, final Runnable action) throws Exception {
+        final Path file = Files.createTempFile("events", ".jfr");
+
+        try {
+            try (final Recording recording = new Recording()) {
+                recording.enable(name).withoutThreshold();
+                recording.start();
+
+                action.run();
+
+                recording.stop();
+                recording.dump(file);
+            }
+
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(name))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
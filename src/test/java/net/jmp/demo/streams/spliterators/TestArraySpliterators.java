@@ -0,0 +1,85 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)TestArraySpliterators.java    0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import static net.jmp.demo.streams.util.SpliteratorUtils.*;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestArraySpliterators {
+    @Test
+    public void testIntArraySpliterator() throws Exception {
+        final IntArraySpliterator spliterator = new IntArraySpliterator(new int[] {1, 2, 3, 4, 5});
+        final IntArraySpliterator prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(2, prefix.estimateSize());
+        assertEquals(3, spliterator.estimateSize());
+        assertTrue(prefix.tryAdvance((int value) -> assertEquals(1, value)));
+
+        final LongAdder sum = new LongAdder();
+
+        prefix.forEachRemaining((int value) -> sum.add(value));
+
+        assertEquals(2, sum.sum());
+        assertEquals(0, prefix.estimateSize());
+        assertFalse(prefix.tryAdvance((int value) -> fail()));
+        assertNull(new IntArraySpliterator(new int[] {1}).trySplit());
+    }
+
+    @Test
+    public void testSplitAndConsume() throws Exception {
+        final int[] integers = IntStream.rangeClosed(1, 10_000).toArray();
+        final long[] longs = LongStream.rangeClosed(1, 100_000).toArray();
+        final double[] doubles = LongStream.rangeClosed(1, 100_000).asDoubleStream().toArray();
+
+        final LongAdder intSum = new LongAdder();
+        final LongAdder longSum = new LongAdder();
+        final DoubleAdder doubleSum = new DoubleAdder();
+
+        assertEquals(50_005_000, splitAndConsumeIntsEvenly(new IntArraySpliterator(integers), intSum::add, intSum::intValue));
+
+        splitAndConsumeLongsUnevenly(new LongArraySpliterator(longs), longSum::add);
+
+        assertEquals(5_000_050_000L, longSum.sum());
+        assertEquals(5_000_050_000.0, splitAndConsumeDoublesEvenly(new DoubleArraySpliterator(doubles), doubleSum::add, doubleSum::sum), 0.0);
+        assertEquals(5_000_050_000L, StreamSupport.longStream(new LongArraySpliterator(longs), true).sum());
+    }
+}
@@ -0,0 +1,103 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)TestBatchingSpliterator.java  0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static net.jmp.demo.streams.util.SpliteratorUtils.*;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestBatchingSpliterator {
+    @Test
+    public void testBatches() throws Exception {
+        final Spliterator<Integer> source = Stream.iterate(0, i -> i < 100, i -> i + 1).spliterator();
+        final BatchingSpliterator<Integer> spliterator = new BatchingSpliterator<>(source, 4, 20, 2.0);
+
+        assertEquals(Long.MAX_VALUE, spliterator.estimateSize());
+
+        final List<Long> sizes = new ArrayList<>();
+        final List<Integer> elements = new ArrayList<>();
+
+        Spliterator<Integer> batch;
+
+        while ((batch = spliterator.trySplit()) != null) {
+            assertTrue(batch.hasCharacteristics(Spliterator.SIZED));
+            assertTrue(batch.hasCharacteristics(Spliterator.ORDERED));
+
+            sizes.add(batch.estimateSize());
+            batch.forEachRemaining(elements::add);
+        }
+
+        assertEquals(List.of(4L, 8L, 16L, 20L, 20L, 20L, 12L), sizes);
+        assertEquals(Stream.iterate(0, i -> i < 100, i -> i + 1).toList(), elements);
+        assertFalse(spliterator.tryAdvance(element -> fail()));
+    }
+
+    @Test
+    public void testParallelStream() throws Exception {
+        final Spliterator<Integer> source = Stream.iterate(1, i -> i <= 100_000, i -> i + 1).spliterator();
+        final List<Integer> elements = StreamSupport.stream(new BatchingSpliterator<>(source, 16, 4_096, 1.5), true).toList();
+
+        assertEquals(100_000, elements.size());
+        assertEquals(Integer.valueOf(1), elements.getFirst());
+        assertEquals(Integer.valueOf(100_000), elements.getLast());
+    }
+
+    @Test
+    public void testSplitAndConsumeEvenly() throws Exception {
+        final Spliterator<Integer> source = Stream.iterate(1, i -> i <= 10_000, i -> i + 1).spliterator();
+        final LongAdder sum = new LongAdder();
+
+        final long result = splitAndConsumeEvenly(new BatchingSpliterator<>(source, 64, 1_024, 2.0), element -> sum.add(element), sum::sum);
+
+        assertEquals(50_005_000L, result);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidGrowthFactor() throws Exception {
+        new BatchingSpliterator<>(Stream.of(1).spliterator(), 1, 2, 0.5);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMaximumSize() throws Exception {
+        new BatchingSpliterator<>(Stream.of(1).spliterator(), 8, 4, 2.0);
+    }
+}
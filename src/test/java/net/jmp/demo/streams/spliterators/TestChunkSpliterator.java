@@ -0,0 +1,217 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)TestChunkSpliterator.java 0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static net.jmp.demo.streams.util.SpliteratorUtils.*;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestChunkSpliterator {
+    @Test
+    public void testChunks() throws Exception {
+        final List<Integer> integers = IntStream.range(0, 10).boxed().toList();
+        final ChunkSpliterator<Integer> spliterator = new ChunkSpliterator<>(integers.spliterator(), 4, Integer[]::new);
+
+        assertEquals(3, spliterator.getExactSizeIfKnown());
+
+        final List<Integer[]> chunks = new ArrayList<>();
+
+        spliterator.forEachRemaining(chunks::add);
+
+        assertEquals(3, chunks.size());
+        assertArrayEquals(new Integer[] {0, 1, 2, 3}, chunks.get(0));
+        assertArrayEquals(new Integer[] {8, 9}, chunks.get(2));
+    }
+
+    @Test
+    public void testSplitAtChunkBoundaries() throws Exception {
+        final List<Integer> integers = IntStream.range(0, 1_000).boxed().toList();
+        final ChunkSpliterator<Integer> spliterator = new ChunkSpliterator<>(new ListSpliterator<>(integers), 64, Integer[]::new);
+        final List<Spliterator<Integer[]>> splits = new ArrayList<>();
+
+        Spliterator<Integer[]> prefix;
+
+        while ((prefix = spliterator.trySplit()) != null) {
+            splits.add(prefix);
+        }
+
+        splits.add(spliterator);
+
+        final List<Integer[]> chunks = new ArrayList<>();
+
+        for (final Spliterator<Integer[]> split : splits) {
+            split.forEachRemaining(chunks::add);
+        }
+
+        final List<Integer> elements = new ArrayList<>();
+
+        for (int i = 0; i < chunks.size(); i++) {
+            if (i < chunks.size() - 1) {
+                assertEquals(64, chunks.get(i).length);     // Only the very last chunk is short
+            }
+
+            elements.addAll(Arrays.asList(chunks.get(i)));
+        }
+
+        assertTrue(splits.size() > 2);
+        assertEquals(integers, elements);
+    }
+
+    @Test
+    public void testNestedSplitsAtChunkBoundaries() throws Exception {
+        for (final int size : new int[] {10, 100, 1_000, 1_003}) {
+            for (final int chunkSize : new int[] {1, 3, 7, 64}) {
+                final List<Integer> integers = IntStream.range(0, size).boxed().toList();
+                final List<Spliterator<Integer[]>> leaves = new ArrayList<>();
+
+                splitFully(new ChunkSpliterator<>(new ListSpliterator<>(integers), chunkSize, Integer[]::new), leaves);
+
+                final List<Integer[]> chunks = new ArrayList<>();
+
+                leaves.forEach(leaf -> leaf.forEachRemaining(chunks::add));
+
+                final List<Integer> elements = new ArrayList<>();
+
+                for (int i = 0; i < chunks.size(); i++) {
+                    if (i < chunks.size() - 1) {
+                        assertEquals(chunkSize, chunks.get(i).length);
+                    }
+
+                    elements.addAll(Arrays.asList(chunks.get(i)));
+                }
+
+                assertEquals(integers, elements);
+
+                final List<Spliterator<int[]>> intLeaves = new ArrayList<>();
+
+                splitFully(new IntChunkSpliterator(new IntArraySpliterator(IntStream.range(0, size).toArray()), chunkSize), intLeaves);
+
+                final List<int[]> intChunks = new ArrayList<>();
+
+                intLeaves.forEach(leaf -> leaf.forEachRemaining(intChunks::add));
+
+                for (int i = 0; i < intChunks.size() - 1; i++) {
+                    assertEquals(chunkSize, intChunks.get(i).length);
+                }
+
+                assertArrayEquals(IntStream.range(0, size).toArray(),
+                        intChunks.stream().flatMapToInt(Arrays::stream).toArray());
+            }
+        }
+    }
+
+    @Test
+    public void testUnsizedSource() throws Exception {
+        final Spliterator<Integer> source = Stream.iterate(0, i -> i < 100, i -> i + 1).spliterator();
+        final long count = StreamSupport.stream(new ChunkSpliterator<>(source, 7, Integer[]::new), true)
+                .mapToLong(chunk -> chunk.length)
+                .sum();
+
+        assertEquals(100, count);
+    }
+
+    @Test
+    public void testSplitAndConsumeChunksEvenly() throws Exception {
+        final List<Integer> integers = IntStream.rangeClosed(1, 10_000).boxed().toList();
+        final LongAdder sum = new LongAdder();
+
+        final long result = splitAndConsumeChunksEvenly(new ListSpliterator<>(integers), 128, Integer[]::new,
+                chunk -> {
+                    long total = 0;
+
+                    for (final Integer integer : chunk) {
+                        total += integer;
+                    }
+
+                    sum.add(total);
+                },
+                sum::sum);
+
+        assertEquals(50_005_000L, result);
+    }
+
+    @Test
+    public void testIntChunks() throws Exception {
+        final int[] values = IntStream.range(0, 1_000).toArray();
+        final IntChunkSpliterator spliterator = new IntChunkSpliterator(new IntArraySpliterator(values), 100);
+        final IntChunkSpliterator prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(5, prefix.estimateSize());
+        assertEquals(5, spliterator.estimateSize());
+
+        final LongAdder sum = new LongAdder();
+
+        final long result = splitAndConsumeIntChunksEvenly(new IntArraySpliterator(values), 33,
+                chunk -> sum.add(Arrays.stream(chunk).sum()),
+                sum::sum);
+
+        assertEquals(499_500L, result);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidChunkSize() throws Exception {
+        new IntChunkSpliterator(new IntArraySpliterator(new int[] {1}), 0);
+    }
+
+    /**
+     * Split the spliterator and each of its splits
+     * until none can be split, adding the leaves
+     * in encounter order.
+     *
+     * @param   <T>         The type of element
+     * @param   spliterator java.util.Spliterator&lt;T&gt;
+     * @param   leaves      java.util.List&lt;java.util.Spliterator&lt;T&gt;&gt;
+     */
+    private static <T> void splitFully(final Spliterator<T> spliterator, final List<Spliterator<T>> leaves) {
+        final Spliterator<T> prefix = spliterator.trySplit();
+
+        if (prefix == null) {
+            leaves.add(spliterator);
+        } else {
+            splitFully(prefix, leaves);
+            splitFully(spliterator, leaves);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)TestCodePointWordSpliterator.java 0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Spliterator;
+
+import java.util.stream.StreamSupport;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestCodePointWordSpliterator {
+    /** Words made of supplementary code points (surrogate pairs). */
+    private static final String TEXT = "𝔘𝔫𝔦 code 😀😀 points 😀";
+
+    @Test
+    public void testCodePoints() throws Exception {
+        final StringBuilder builder = new StringBuilder();
+
+        new CodePointWordSpliterator(TEXT).forEachRemaining((int codePoint) -> builder.appendCodePoint(codePoint));
+
+        assertEquals(TEXT, builder.toString());
+        assertArrayEquals(TEXT.codePoints().toArray(),
+                StreamSupport.intStream(new CodePointWordSpliterator(TEXT), false).toArray());
+    }
+
+    @Test
+    public void testTrySplit() throws Exception {
+        final CodePointWordSpliterator spliterator = new CodePointWordSpliterator(TEXT);
+        final CodePointWordSpliterator prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+
+        final StringBuilder builder = new StringBuilder();
+
+        prefix.forEachRemaining((int codePoint) -> builder.appendCodePoint(codePoint));
+
+        assertTrue(Character.isWhitespace(TEXT.charAt(builder.length())));
+
+        spliterator.forEachRemaining((int codePoint) -> builder.appendCodePoint(codePoint));
+
+        assertEquals(TEXT, builder.toString());
+        assertArrayEquals(TEXT.codePoints().toArray(),
+                StreamSupport.intStream(new CodePointWordSpliterator(TEXT), true).toArray());
+    }
+
+    @Test
+    public void testStringBuilder() throws Exception {
+        final StringBuilder characters = new StringBuilder(TEXT);
+        final CodePointWordSpliterator spliterator = new CodePointWordSpliterator(characters);
+
+        assertFalse(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+        assertTrue(new CodePointWordSpliterator(TEXT).hasCharacteristics(Spliterator.IMMUTABLE));
+
+        final StringBuilder builder = new StringBuilder();
+
+        spliterator.forEachRemaining((int codePoint) -> builder.appendCodePoint(codePoint));
+
+        assertEquals(TEXT, builder.toString());
+        assertArrayEquals(TEXT.codePoints().toArray(),
+                StreamSupport.intStream(new CodePointWordSpliterator(characters), true).toArray());
+    }
+}
@@ -0,0 +1,157 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)TestConcatSpliterator.java    0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static net.jmp.demo.streams.util.SpliteratorUtils.concatAll;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestConcatSpliterator {
+    @Test
+    public void testSizedAndOrdered() throws Exception {
+        final List<Spliterator<Integer>> children = new ArrayList<>();
+
+        for (int i = 0; i < 5; i++) {
+            children.add(IntStream.range(i * 3, i * 3 + 3).boxed().toList().spliterator());
+        }
+
+        final ConcatSpliterator<Integer> spliterator = new ConcatSpliterator<>(children);
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(15, spliterator.getExactSizeIfKnown());
+
+        final List<Integer> elements = new ArrayList<>();
+
+        spliterator.forEachRemaining(elements::add);
+
+        assertEquals(IntStream.range(0, 15).boxed().toList(), elements);
+    }
+
+    @Test
+    public void testUnsizedChild() throws Exception {
+        final List<Spliterator<Integer>> children = List.of(
+                List.of(1, 2).spliterator(),
+                Stream.iterate(3, i -> i <= 5, i -> i + 1).spliterator());
+
+        final ConcatSpliterator<Integer> spliterator = new ConcatSpliterator<>(children);
+
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertEquals(-1, spliterator.getExactSizeIfKnown());
+    }
+
+    @Test
+    public void testSplitBalancedBySize() throws Exception {
+        final List<Spliterator<Integer>> children = new ArrayList<>();
+
+        children.add(IntStream.range(0, 900).boxed().toList().spliterator());
+
+        for (int i = 0; i < 9; i++) {
+            children.add(IntStream.range(900 + i * 100, 1_000 + i * 100).boxed().toList().spliterator());
+        }
+
+        final ConcatSpliterator<Integer> spliterator = new ConcatSpliterator<>(children);
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(900, prefix.estimateSize());       // Not five of the ten children
+        assertEquals(900, spliterator.estimateSize());
+        assertTrue(prefix.hasCharacteristics(Spliterator.SIZED));
+    }
+
+    @Test
+    public void testSplitSingleChild() throws Exception {
+        final ConcatSpliterator<Integer> spliterator = new ConcatSpliterator<>(
+                List.of(IntStream.range(0, 100).boxed().toList().spliterator()));
+
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(100, prefix.estimateSize() + spliterator.estimateSize());
+    }
+
+    @Test
+    public void testSplitSingleChildNotSubsized() throws Exception {
+        final Set<Integer> set = IntStream.range(0, 1_000).boxed().collect(Collectors.toCollection(HashSet::new));
+        final ConcatSpliterator<Integer> spliterator = new ConcatSpliterator<>(List.of(set.spliterator()));
+
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));     // The estimate is no longer exact
+        assertEquals(-1, spliterator.getExactSizeIfKnown());
+
+        final List<Integer> elements = new ArrayList<>();
+
+        prefix.forEachRemaining(elements::add);
+        spliterator.forEachRemaining(elements::add);
+
+        assertEquals(set, new HashSet<>(elements));
+    }
+
+    @Test
+    public void testConcatAll() throws Exception {
+        final List<Stream<Integer>> streams = new ArrayList<>();
+        final AtomicInteger closed = new AtomicInteger();
+
+        for (int i = 0; i < 500; i++) {
+            streams.add(IntStream.rangeClosed(i * 20 + 1, i * 20 + 20).boxed().onClose(closed::incrementAndGet));
+        }
+
+        try (final Stream<Integer> stream = concatAll(streams)) {
+            assertEquals(50_005_000L, stream.parallel().mapToLong(Integer::longValue).sum());
+        }
+
+        assertEquals(500, closed.get());
+    }
+
+    @Test
+    public void testConcatAllEmpty() throws Exception {
+        assertEquals(0, concatAll(List.<Stream<Integer>>of()).count());
+    }
+}
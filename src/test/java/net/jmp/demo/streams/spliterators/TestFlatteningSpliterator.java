@@ -0,0 +1,121 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)TestFlatteningSpliterator.java    0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import net.jmp.demo.streams.records.Album;
+import net.jmp.demo.streams.records.Artist;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestFlatteningSpliterator {
+    @Test
+    public void testOfLists() throws Exception {
+        final List<List<Integer>> lists = List.of(List.of(1, 2), List.of(), List.of(3), List.of(), List.of(4, 5, 6));
+        final FlatteningSpliterator<List<? extends Integer>, Integer, Integer> spliterator = FlatteningSpliterator.ofLists(lists);
+
+        assertEquals(6, spliterator.getExactSizeIfKnown());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+
+        final List<Integer> elements = new ArrayList<>();
+
+        assertTrue(spliterator.tryAdvance(elements::add));
+
+        spliterator.forEachRemaining(elements::add);
+
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), elements);
+        assertEquals(0, spliterator.estimateSize());
+        assertFalse(spliterator.tryAdvance(elements::add));
+    }
+
+    @Test
+    public void testSplitInsideInnerList() throws Exception {
+        final List<Integer> large = IntStream.range(0, 1_000).boxed().toList();
+        final FlatteningSpliterator<List<? extends Integer>, Integer, Integer> spliterator =
+                FlatteningSpliterator.ofLists(List.of(List.of(-2, -1), large));
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(501, prefix.estimateSize());
+        assertEquals(501, spliterator.estimateSize());
+
+        final List<Integer> elements = new ArrayList<>();
+
+        prefix.forEachRemaining(elements::add);
+
+        assertEquals(Integer.valueOf(-2), elements.getFirst());
+        assertEquals(Integer.valueOf(498), elements.getLast());
+        assertTrue(spliterator.tryAdvance(element -> assertEquals(499, (int) element)));
+        assertNull(FlatteningSpliterator.ofLists(List.of(List.of(1))).trySplit());
+    }
+
+    @Test
+    public void testParallelSkewed() throws Exception {
+        final List<List<Integer>> lists = new ArrayList<>();
+
+        int next = 0;
+
+        for (int i = 0; i < 500; i++) {
+            final int size = i == 250 ? 100_000 : i % 7;
+
+            lists.add(IntStream.range(next, next + size).boxed().toList());
+
+            next += size;
+        }
+
+        final List<Integer> flattened = StreamSupport.stream(FlatteningSpliterator.ofLists(lists), true).toList();
+
+        assertEquals(IntStream.range(0, next).boxed().toList(), flattened);
+    }
+
+    @Test
+    public void testAlbums() throws Exception {
+        final List<Album> albums = List.of(
+                new Album("A", 10, List.of(new Artist("X", false, List.of()), new Artist("Y", false, List.of()))),
+                new Album("B", 12, List.of()),
+                new Album("C", 14, List.of(new Artist("Z", false, List.of()))));
+
+        final List<String> pairs = StreamSupport.stream(new FlatteningSpliterator<>(albums,
+                        Album::artists,
+                        (album, artist) -> artist.name() + "/" + album.albumName()), true)
+                .toList();
+
+        assertEquals(List.of("X/A", "Y/A", "Z/C"), pairs);
+    }
+}
@@ -0,0 +1,104 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)TestListSpliterator.java  0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Spliterator;
+
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestListSpliterator {
+    @Test
+    public void testTrySplit() throws Exception {
+        final List<Integer> integers = IntStream.range(0, 10).boxed().toList();
+        final ListSpliterator<Integer> spliterator = new ListSpliterator<>(integers);
+        final ListSpliterator<Integer> prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(5, prefix.estimateSize());
+        assertEquals(5, spliterator.estimateSize());
+
+        final List<Integer> elements = new ArrayList<>();
+
+        while (prefix.tryAdvance(elements::add)) { }
+
+        assertEquals(List.of(0, 1, 2, 3, 4), elements);
+        assertEquals(0, prefix.estimateSize());
+
+        final ListSpliterator<Integer> one = new ListSpliterator<>(List.of(1));
+
+        assertNull(one.trySplit());
+    }
+
+    @Test
+    public void testForEachRemaining() throws Exception {
+        final ListSpliterator<Integer> spliterator = new ListSpliterator<>(List.of(1, 2, 3, 4, 5));
+        final List<Integer> elements = new ArrayList<>();
+
+        assertTrue(spliterator.tryAdvance(elements::add));
+
+        spliterator.forEachRemaining(elements::add);
+
+        assertEquals(List.of(1, 2, 3, 4, 5), elements);
+        assertEquals(0, spliterator.estimateSize());
+        assertFalse(spliterator.tryAdvance(elements::add));
+    }
+
+    @Test
+    public void testDeepSplits() throws Exception {
+        final List<Integer> integers = IntStream.range(0, 100_000).boxed().toList();
+
+        assertEquals(integers, this.splitAndCollect(new ListSpliterator<>(integers)));
+        assertEquals(integers, this.splitAndCollect(new ListSpliterator<>(new LinkedList<>(integers))));
+        assertEquals(integers, StreamSupport.stream(new ListSpliterator<>(integers), true).toList());
+    }
+
+    private List<Integer> splitAndCollect(final Spliterator<Integer> spliterator) {
+        final List<Integer> elements = new ArrayList<>();
+        final Spliterator<Integer> prefix = spliterator.estimateSize() > 1 ? spliterator.trySplit() : null;
+
+        if (prefix == null) {
+            spliterator.forEachRemaining(elements::add);
+        } else {
+            elements.addAll(this.splitAndCollect(prefix));
+            elements.addAll(this.splitAndCollect(spliterator));
+        }
+
+        return elements;
+    }
+}
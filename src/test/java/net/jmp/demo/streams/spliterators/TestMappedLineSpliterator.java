@@ -0,0 +1,93 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)TestMappedLineSpliterator.java    0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestMappedLineSpliterator {
+    @Test
+    public void testLines() throws Exception {
+        final MappedLineSpliterator spliterator = new MappedLineSpliterator(segment("one\r\ntwo\n\nthree"));
+        final List<String> lines = new ArrayList<>();
+
+        assertTrue(spliterator.tryAdvance(line -> lines.add(decode(line))));
+
+        spliterator.forEachRemaining(line -> lines.add(decode(line)));
+
+        assertEquals(List.of("one", "two", "", "three"), lines);
+        assertEquals(0, spliterator.estimateSize());
+        assertFalse(spliterator.tryAdvance(line -> fail()));
+    }
+
+    @Test
+    public void testParallelSplits() throws Exception {
+        final String text = IntStream.range(0, 100_000)
+                .mapToObj(i -> "Line " + i)
+                .collect(Collectors.joining("\n", "", "\n"));
+
+        final MappedLineSpliterator spliterator = new MappedLineSpliterator(segment(text));
+
+        assertEquals(100_000, spliterator.estimateSize(), 15_000);
+
+        final MappedLineSpliterator prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(100_000, prefix.estimateSize() + spliterator.estimateSize(), 15_000);
+
+        final List<String> lines = StreamSupport.stream(new MappedLineSpliterator(segment(text)), true)
+                .map(TestMappedLineSpliterator::decode)
+                .toList();
+
+        assertEquals(text.lines().toList(), lines);
+    }
+
+    private static MemorySegment segment(final String text) {
+        return MemorySegment.ofArray(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(final MemorySegment line) {
+        return new String(line.toArray(ValueLayout.JAVA_BYTE), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,146 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)TestOfferTreeSpliterator.java 0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+
+import java.util.function.ToLongFunction;
+
+import java.util.stream.StreamSupport;
+
+import net.jmp.demo.streams.records.Offer;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestOfferTreeSpliterator {
+    @Test
+    public void testPreOrder() throws Exception {
+        final Offer offer = tree("P", 3, 4);
+        final List<String> expected = new ArrayList<>();
+
+        preOrder(offer, expected);
+
+        final List<String> productCodes = new ArrayList<>();
+
+        new OfferTreeSpliterator(offer).forEachRemaining(o -> productCodes.add(o.productCode()));
+
+        assertEquals(expected, productCodes);
+        assertEquals(121, productCodes.size());
+    }
+
+    @Test
+    public void testParallel() throws Exception {
+        final Offer offer = tree("P", 4, 6);
+        final List<String> expected = new ArrayList<>();
+
+        preOrder(offer, expected);
+
+        final List<String> unsized = StreamSupport.stream(new OfferTreeSpliterator(offer), true)
+                .map(Offer::productCode)
+                .toList();
+
+        final List<String> sized = StreamSupport.stream(new OfferTreeSpliterator(List.of(offer), OfferTreeSpliterator.countSubtrees(List.of(offer))), true)
+                .map(Offer::productCode)
+                .toList();
+
+        assertEquals(expected, unsized);
+        assertEquals(expected, sized);
+    }
+
+    @Test
+    public void testSizedSplits() throws Exception {
+        final List<Offer> offers = List.of(tree("A", 2, 5), tree("B", 5, 3), tree("C", 3, 2));
+        final ToLongFunction<Offer> subtreeSize = OfferTreeSpliterator.countSubtrees(offers);
+        final OfferTreeSpliterator spliterator = new OfferTreeSpliterator(offers, subtreeSize);
+
+        assertEquals(63 + 156 + 13, spliterator.getExactSizeIfKnown());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+
+        final OfferTreeSpliterator prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(63 + 156 + 13, prefix.estimateSize() + spliterator.estimateSize());
+
+        final long[] count = new long[1];
+
+        prefix.forEachRemaining(o -> count[0]++);
+
+        assertEquals(count[0], 63 + 156 + 13 - spliterator.estimateSize());
+        assertEquals(0, prefix.estimateSize());
+        assertNull(new OfferTreeSpliterator(new Offer("L", List.of())).trySplit());
+
+        final Offer chain = new Offer("R", List.of(tree("X", 2, 6)));    // A single subtree is opened up to split
+        final OfferTreeSpliterator opened = new OfferTreeSpliterator(List.of(chain), OfferTreeSpliterator.countSubtrees(List.of(chain)));
+        final OfferTreeSpliterator first = opened.trySplit();
+
+        assertNotNull(first);
+        assertEquals(128, first.estimateSize() + opened.estimateSize());
+        assertTrue(first.tryAdvance(o -> assertEquals("R", o.productCode())));
+    }
+
+    @Test
+    public void testDeepTree() throws Exception {
+        Offer offer = new Offer("D0", List.of());
+
+        for (int i = 1; i < 100_000; i++) {
+            offer = new Offer("D" + i, List.of(offer, new Offer("S" + i, List.of())));
+        }
+
+        final List<Offer> offers = List.of(offer);
+
+        assertEquals(199_999, OfferTreeSpliterator.countSubtrees(offers).applyAsLong(offer));
+        assertEquals(199_999, StreamSupport.stream(new OfferTreeSpliterator(offer), true).count());
+    }
+
+    private static Offer tree(final String productCode, final int fanOut, final int depth) {
+        final List<Offer> childOffers = new ArrayList<>();
+
+        if (depth > 0) {
+            for (int i = 0; i < fanOut; i++) {
+                childOffers.add(tree(productCode + "." + i, fanOut, depth - 1));
+            }
+        }
+
+        return new Offer(productCode, List.copyOf(childOffers));
+    }
+
+    private static void preOrder(final Offer offer, final List<String> productCodes) {
+        productCodes.add(offer.productCode());
+
+        for (final Offer childOffer : offer.childOffers()) {
+            preOrder(childOffer, productCodes);
+        }
+    }
+}
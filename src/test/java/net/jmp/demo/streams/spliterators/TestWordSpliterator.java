@@ -0,0 +1,108 @@
+package net.jmp.demo.streams.spliterators;
+
+/*
+ * (#)TestWordSpliterator.java  0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.nio.CharBuffer;
+
+import java.util.Spliterator;
+
+import java.util.stream.StreamSupport;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestWordSpliterator {
+    @Test
+    public void testForEachRemaining() throws Exception {
+        final WordSpliterator spliterator = new WordSpliterator("one two three");
+        final StringBuilder builder = new StringBuilder();
+
+        assertTrue(spliterator.tryAdvance(builder::append));
+
+        spliterator.forEachRemaining(builder::append);
+
+        assertEquals("one two three", builder.toString());
+        assertEquals(0, spliterator.estimateSize());
+    }
+
+    @Test
+    public void testTrySplit() throws Exception {
+        final WordSpliterator spliterator = new WordSpliterator("one two three four");
+        final WordSpliterator prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+
+        final StringBuilder builder = new StringBuilder();
+
+        prefix.forEachRemaining(builder::append);
+
+        assertEquals("one two three", builder.toString());
+
+        spliterator.forEachRemaining(builder::append);
+
+        assertEquals("one two three four", builder.toString());
+    }
+
+    @Test
+    public void testTryAdvance() throws Exception {
+        final WordSpliterator spliterator = new WordSpliterator("ab");
+        final StringBuilder builder = new StringBuilder();
+
+        assertTrue(spliterator.tryAdvance(builder::append));
+        assertTrue(spliterator.tryAdvance(builder::append));
+        assertFalse(spliterator.tryAdvance(builder::append));
+        assertEquals("ab", builder.toString());
+        assertFalse(new WordSpliterator("").tryAdvance(builder::append));
+    }
+
+    @Test
+    public void testCharSequences() throws Exception {
+        final String text = "one two three four five six seven eight nine ten";
+        final StringBuilder source = new StringBuilder(text);
+        final WordSpliterator spliterator = new WordSpliterator(source);
+
+        assertFalse(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+        assertTrue(new WordSpliterator(text).hasCharacteristics(Spliterator.IMMUTABLE));
+
+        final String parallel = StreamSupport.stream(spliterator, true)
+                .map(String::valueOf)
+                .reduce("", String::concat);
+
+        assertEquals(text, parallel);
+
+        final String buffered = StreamSupport.stream(new WordSpliterator(CharBuffer.wrap(text)), true)
+                .map(String::valueOf)
+                .reduce("", String::concat);
+
+        assertEquals(text, buffered);
+    }
+}
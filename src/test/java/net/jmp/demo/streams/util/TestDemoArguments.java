@@ -0,0 +1,154 @@
+package net.jmp.demo.streams.util;
+
+/*
+ * (#)TestDemoArguments.java    0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.Set;
+
+import net.jmp.demo.streams.records.DemoOptions;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestDemoArguments {
+    @Test
+    public void testDefaults() throws Exception {
+        assertEquals(DemoOptions.DEFAULTS, DemoArguments.parse(new String[0]));
+    }
+
+    @Test
+    public void testOptions() throws Exception {
+        final DemoOptions options = DemoArguments.parse(new String[] {
+                "--demos=basics, collectors,,",
+                "--methods=getDishNames",
+                "--size=1_000_000",
+                "--parallelism=4",
+                "--iterations=5",
+                "--concurrency=8",
+                "--seed=9_000_000_000",
+                "--skew=1.5",
+                "--duplicates=0.25",
+                "--nulls=0.2",
+                "--fanout=3",
+                "--depth=4",
+                "--duration=60",
+                "--rate=500",
+                "--workers=16"
+        });
+
+        assertEquals(Set.of("basics", "collectors"), options.demos());
+        assertEquals(Set.of("getDishNames"), options.methods());
+        assertEquals(1_000_000, options.size());
+        assertEquals(4, options.parallelism());
+        assertEquals(5, options.iterations());
+        assertFalse(options.parallel());
+        assertEquals(8, options.concurrency());
+        assertEquals(9_000_000_000L, options.dataset().seed());
+        assertEquals(1.5, options.dataset().typeSkew(), 0.0);
+        assertEquals(0.25, options.dataset().duplicateRatio(), 0.0);
+        assertEquals(0.2, options.dataset().nullRatio(), 0.0);
+        assertEquals(3, options.dataset().fanOut());
+        assertEquals(4, options.dataset().depth());
+        assertEquals(60, options.load().duration());
+        assertEquals(500, options.load().rate());
+        assertEquals(16, options.load().workers());
+    }
+
+    @Test
+    public void testLastOptionWins() throws Exception {
+        final DemoOptions options = DemoArguments.parse(new String[] {"--size=10", "--size=20"});
+
+        assertEquals(20, options.size());
+    }
+
+    @Test
+    public void testMode() throws Exception {
+        assertTrue(DemoArguments.parse(new String[] {"--mode=parallel"}).parallel());
+        assertFalse(DemoArguments.parse(new String[] {"--mode=sequential"}).parallel());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidMode() throws Exception {
+        DemoArguments.parse(new String[] {"--mode=concurrent"});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownOption() throws Exception {
+        DemoArguments.parse(new String[] {"--colour=blue"});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingEquals() throws Exception {
+        DemoArguments.parse(new String[] {"--size"});
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingDashes() throws Exception {
+        DemoArguments.parse(new String[] {"size=10"});
+    }
+
+    @Test
+    public void testNonNumericValues() throws Exception {
+        for (final String arg : new String[] {"--size=ten", "--seed=0x2a", "--skew=high", "--size=1.5", "--rate="}) {
+            try {
+                DemoArguments.parse(new String[] {arg});
+
+                fail("Expected an IllegalArgumentException for " + arg);
+            } catch (final IllegalArgumentException iae) {
+                assertTrue(iae.getCause() instanceof NumberFormatException);
+                assertTrue(iae.getMessage().contains(arg.substring(2, arg.indexOf('='))));
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidValue() throws Exception {
+        DemoArguments.parse(new String[] {"--iterations=0"});
+    }
+
+    @Test
+    public void testNonFiniteValues() throws Exception {
+        for (final String arg : new String[] {"--skew=NaN", "--skew=Infinity", "--duplicates=NaN", "--nulls=NaN"}) {
+            try {
+                DemoArguments.parse(new String[] {arg});
+
+                fail("Expected an IllegalArgumentException for " + arg);
+            } catch (final IllegalArgumentException iae) {
+                assertNull(iae.getCause());
+            }
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testNullArguments() throws Exception {
+        DemoArguments.parse(null);
+    }
+}
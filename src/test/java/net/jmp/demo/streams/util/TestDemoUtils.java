@@ -1,10 +1,11 @@
 package net.jmp.demo.streams.util;
 
 /*
+ * (#)TestDemoUtils.java    0.14.0  10/17/2026
  * (#)TestDemoUtils.java    0.3.0   08/29/2024
  *
  * @author   Jonathan Parker
- * @version  0.3.0
+ * @version  0.14.0
  * @since    0.3.0
  *
  * MIT License
@@ -31,12 +32,14 @@ package net.jmp.demo.streams.util;
  */
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 import static net.jmp.demo.streams.util.DemoUtils.*;
 
 import static org.junit.Assert.*;
 
-import net.jmp.demo.streams.records.Dish;
+import net.jmp.demo.streams.records.*;
 
 import org.junit.Test;
 
@@ -75,6 +78,53 @@ public final class TestDemoUtils {
         assertEquals("salmon", dishes.get(8).name());
     }
 
+    @Test
+    public void testSizedDishes() throws Exception {
+        try {
+            configure(new DemoOptions(Set.of(), Set.of(), 1_000, 0, 1, true, 0, DatasetSettings.DEFAULTS, LoadSettings.DEFAULTS));
+
+            final List<Dish> dishes = listOfDishes();
+
+            assertEquals(1_000, dishes.size());
+            assertEquals(dishes, listOfDishes());
+
+            assertTrue(streamOfDishes().isParallel());
+            assertEquals(dishes, streamOfDishes().toList());
+            assertTrue(stream(dishes).isParallel());
+            assertEquals(dishes, stream(dishes).toList());
+            assertTrue(dishes.stream().distinct().count() < dishes.size());
+        } finally {
+            configure(DemoOptions.DEFAULTS);
+        }
+
+        assertEquals(9, listOfDishes().size());
+        assertFalse(streamOfDishes().isParallel());
+        assertFalse(stream(List.of(1, 2, 3)).isParallel());
+    }
+
+    @Test
+    public void testGeneratedData() throws Exception {
+        final DatasetSettings settings = new DatasetSettings(7L, 3.0, 0.0, 0.5, 3, 2);
+        final DatasetGenerator generator = new DatasetGenerator(settings);
+
+        final List<Dish> dishes = generator.listOfDishes(10_000);
+
+        assertEquals(dishes, new DatasetGenerator(settings).dishes(10_000).parallel().toList());
+        assertEquals(10_000, dishes.stream().distinct().count());
+        assertTrue(dishes.stream().filter(dish -> dish.type() == DishType.FISH).count() > 5_000);
+
+        final long nulls = generator.moneyWithNulls(10_000).filter(Objects::isNull).count();
+
+        assertTrue(nulls > 4_000 && nulls < 6_000);
+
+        final Offer offer = generator.offerAt(0);
+
+        assertEquals(3, offer.childOffers().size());
+        assertEquals(3, offer.childOffers().getFirst().childOffers().size());
+        assertTrue(offer.childOffers().getFirst().childOffers().getFirst().childOffers().isEmpty());
+        assertTrue(generator.albumAt(0).artists().size() <= 3);
+    }
+
     @Test
     public void testToTypedArray() {
         final Object[] array1 = new Object[] { "a", "b", "c" };
@@ -0,0 +1,86 @@
+package net.jmp.demo.streams.util;
+
+/*
+ * (#)TestLatencyHistogram.java 0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestLatencyHistogram {
+    @Test
+    public void testIndexAndValue() throws Exception {
+        for (long value = 0; value < 128; value++) {
+            assertEquals(value, LatencyHistogram.value(LatencyHistogram.index(value)));
+        }
+
+        for (long value = 128; value > 0 && value < Long.MAX_VALUE / 2; value = value * 3 / 2 + 1) {
+            final long bucketValue = LatencyHistogram.value(LatencyHistogram.index(value));
+
+            assertEquals(1.0, (double) bucketValue / value, 1.0 / 64);
+        }
+
+        assertTrue(LatencyHistogram.index(Long.MAX_VALUE) < (64 - 6) * 64 + 64);
+    }
+
+    @Test
+    public void testPercentiles() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.percentile(99.0));
+
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(value * 1_000);
+        }
+
+        assertEquals(10_000, histogram.count());
+        assertEquals(10_000_000, histogram.max());
+        assertEquals(5_000_000, histogram.percentile(50.0), 5_000_000 / 64.0);
+        assertEquals(9_900_000, histogram.percentile(99.0), 9_900_000 / 64.0);
+        assertEquals(10_000_000, histogram.percentile(100.0));
+    }
+
+    @Test
+    public void testAdd() throws Exception {
+        final LatencyHistogram first = new LatencyHistogram();
+        final LatencyHistogram second = new LatencyHistogram();
+
+        first.record(100);
+        second.record(1_000_000);
+        second.record(-5);
+
+        first.add(second);
+
+        assertEquals(3, first.count());
+        assertEquals(1_000_000, first.max());
+        assertEquals(0, first.percentile(1.0));
+        assertEquals(100, first.percentile(50.0));
+    }
+}
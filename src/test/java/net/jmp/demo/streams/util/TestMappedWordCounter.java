@@ -0,0 +1,75 @@
+package net.jmp.demo.streams.util;
+
+/*
+ * (#)TestMappedWordCounter.java    0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestMappedWordCounter {
+    @Test
+    public void testCountWords() throws Exception {
+        final Random random = new Random(42);
+        final StringBuilder builder = new StringBuilder();
+
+        long words = 0;
+
+        while (builder.length() < 1_000_000) {
+            builder.append("wörd".repeat(1 + random.nextInt(5)));
+            builder.append(" \t\n".charAt(random.nextInt(3)));
+
+            words++;
+        }
+
+        final Path file = Files.createTempFile("words", ".txt");
+
+        try {
+            Files.writeString(file, builder);
+
+            assertEquals(words, new MappedWordCounter(file).countWords());
+
+            for (final WordCountEngine engine : WordCountEngine.values()) {
+                assertEquals(engine.name(), words, new MappedWordCounter(file, engine).countWords());
+            }
+
+            Files.writeString(file, "");
+
+            assertEquals(0, new MappedWordCounter(file).countWords());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
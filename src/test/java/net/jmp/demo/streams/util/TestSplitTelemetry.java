@@ -0,0 +1,108 @@
+package net.jmp.demo.streams.util;
+
+/*
+ * (#)TestSplitTelemetry.java   0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Spliterator;
+
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import net.jmp.demo.streams.records.SplitMetrics;
+
+import net.jmp.demo.streams.spliterators.ListSpliterator;
+import net.jmp.demo.streams.spliterators.TelemetrySpliterator;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestSplitTelemetry {
+    @Test
+    public void testWrap() throws Exception {
+        final SplitTelemetry telemetry = new SplitTelemetry();
+        final TelemetrySpliterator<Integer> spliterator = telemetry.wrap(List.of(1, 2, 3, 4).spliterator());
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+
+        assertNotNull(prefix);
+        assertEquals(Spliterator.SIZED, spliterator.characteristics() & Spliterator.SIZED);
+
+        final List<Integer> elements = new ArrayList<>();
+
+        while (prefix.tryAdvance(elements::add)) { }
+
+        spliterator.forEachRemaining(elements::add);
+
+        assertEquals(List.of(1, 2, 3, 4), elements);
+        assertEquals(2, spliterator.getElements());
+
+        final List<SplitMetrics> splits = telemetry.getSplits();
+
+        assertEquals(2, splits.size());
+        assertEquals(4, telemetry.totalElements());
+        assertTrue(splits.stream().allMatch(split -> split.depth() == 1 && split.elements() == 2));
+        assertTrue(splits.stream().allMatch(split -> split.queuedNanos() >= 0 && split.processingNanos() >= 0));
+        assertEquals(2, telemetry.getElements().count());
+        assertEquals(1.0, telemetry.loadImbalance(), 0.0);   // One thread did all of the work
+    }
+
+    @Test
+    public void testParallelStream() throws Exception {
+        final List<Integer> integers = IntStream.rangeClosed(1, 100_000).boxed().toList();
+        final SplitTelemetry telemetry = new SplitTelemetry();
+
+        final long sum = StreamSupport.stream(telemetry.wrap(new ListSpliterator<>(integers)), true)
+                .mapToLong(Integer::longValue)
+                .sum();
+
+        assertEquals(5_000_050_000L, sum);
+        assertEquals(100_000, telemetry.totalElements());
+        assertTrue(telemetry.getSplits().size() > 1);
+        assertTrue(telemetry.loadImbalance() >= 1.0);
+        assertTrue(telemetry.straggler().isPresent());
+        assertEquals(telemetry.getSplits().size(), telemetry.getProcessingNanos().count());
+    }
+
+    @Test
+    public void testSplitAndConsume() throws Exception {
+        final List<Integer> integers = IntStream.rangeClosed(1, 10_000).boxed().toList();
+        final SplitTelemetry telemetry = new SplitTelemetry();
+        final List<Integer> elements = Collections.synchronizedList(new ArrayList<>());
+
+        SpliteratorUtils.splitAndConsumeEvenly(telemetry.wrap(new ListSpliterator<>(integers)), elements::add, () -> null);
+
+        assertEquals(10_000, elements.size());
+        assertEquals(10_000, telemetry.totalElements());
+        assertFalse(telemetry.getSplits().isEmpty());
+    }
+}
@@ -0,0 +1,98 @@
+package net.jmp.demo.streams.util;
+
+/*
+ * (#)TestWordCountEngine.java  0.14.0  10/17/2026
+ *
+ * @author   Jonathan Parker
+ * @version  0.14.0
+ * @since    0.14.0
+ *
+ * MIT License
+ *
+ * Copyright (c) 2024 Jonathan M. Parker
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+import java.lang.foreign.MemorySegment;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Random;
+
+import net.jmp.demo.streams.records.WordCount;
+
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+public final class TestWordCountEngine {
+    @Test
+    public void testCount() throws Exception {
+        final MemorySegment text = MemorySegment.ofArray("  one two\tthree\n".getBytes(StandardCharsets.UTF_8));
+
+        for (final WordCountEngine engine : WordCountEngine.values()) {
+            final WordCount wordCount = engine.count(text);
+
+            assertEquals(engine.name(), 3, wordCount.words());
+            assertTrue(engine.name(), wordCount.leadingSpace());
+            assertTrue(engine.name(), wordCount.trailingSpace());
+            assertEquals(engine.name(), WordCount.EMPTY, engine.count(MemorySegment.ofArray(new byte[0])));
+        }
+    }
+
+    @Test
+    public void testCombine() throws Exception {
+        final byte[] bytes = "alpha beta gamma  delta".getBytes(StandardCharsets.UTF_8);
+        final MemorySegment text = MemorySegment.ofArray(bytes);
+
+        for (final WordCountEngine engine : WordCountEngine.values()) {
+            for (int split = 0; split <= bytes.length; split++) {
+                final WordCount first = engine.count(text.asSlice(0, split));
+                final WordCount second = engine.count(text.asSlice(split));
+
+                assertEquals(engine.name() + " split at " + split, 4, first.combine(second).words());
+            }
+        }
+    }
+
+    @Test
+    public void testSwarMatchesScalar() throws Exception {
+        final Random random = new Random(42);
+        final byte[] bytes = new byte[4_096];
+
+        random.nextBytes(bytes);    // Every byte value, including those with the high bit set
+
+        for (int i = 0; i < bytes.length; i += 1 + random.nextInt(8)) {
+            bytes[i] = (byte) " \t\n\u000b\f\r\u001c\u001d\u001e\u001f".charAt(random.nextInt(10));
+        }
+
+        final MemorySegment text = MemorySegment.ofArray(bytes);
+
+        for (int offset = 0; offset < 16; offset++) {
+            for (int length = 0; length < 64; length++) {
+                final MemorySegment range = text.asSlice(offset * 131, length * 17);
+
+                assertEquals("Offset " + offset + ", length " + length,
+                        WordCountEngine.SCALAR.count(range),
+                        WordCountEngine.SWAR.count(range));
+            }
+        }
+    }
+}